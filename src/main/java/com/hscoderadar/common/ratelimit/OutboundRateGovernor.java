@@ -0,0 +1,220 @@
+package com.hscoderadar.common.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 발송 제공사(SMS, SMTP)별 적응형 발송 속도 조절기
+ *
+ * <p>제공사마다 토큰 버킷을 두고 발송 전에 메시지 수만큼 토큰을 획득함. 발송 속도는 AIMD 방식으로 조절됨.
+ *
+ * <ul>
+ *   <li>성공 시 초당 허용량을 additive-increase만큼 증가 (max까지)
+ *   <li>제공사 제한(429, 5xx, SMTP 4xx 등) 감지 시 multiplicative-decrease 배율로 감소 (min까지)
+ *   <li>제한으로 실패한 호출은 지수 백오프 + full jitter 대기 후 max-retries까지 재시도
+ * </ul>
+ *
+ * <p>메트릭: notification.outbound.queued(대기 중 메시지 수), notification.outbound.sent, notification.outbound.throttled,
+ * notification.outbound.rate (모두 provider 태그)
+ */
+@Component
+@Slf4j
+public class OutboundRateGovernor {
+
+  /** 발송 제공사 */
+  public enum Provider {
+    SMS,
+    EMAIL
+  }
+
+  private final Map<Provider, Bucket> buckets = new EnumMap<>(Provider.class);
+  private final double additiveIncrease;
+  private final double multiplicativeDecrease;
+  private final int maxRetries;
+  private final long baseBackoffMs;
+  private final long maxBackoffMs;
+
+  public OutboundRateGovernor(
+      MeterRegistry meterRegistry,
+      @Value("${app.notification.rate.sms.permits-per-second:100}") double smsRate,
+      @Value("${app.notification.rate.sms.min-permits-per-second:5}") double smsMinRate,
+      @Value("${app.notification.rate.sms.max-permits-per-second:300}") double smsMaxRate,
+      @Value("${app.notification.rate.email.permits-per-second:10}") double emailRate,
+      @Value("${app.notification.rate.email.min-permits-per-second:1}") double emailMinRate,
+      @Value("${app.notification.rate.email.max-permits-per-second:30}") double emailMaxRate,
+      @Value("${app.notification.rate.additive-increase:1}") double additiveIncrease,
+      @Value("${app.notification.rate.multiplicative-decrease:0.5}") double multiplicativeDecrease,
+      @Value("${app.notification.rate.max-retries:3}") int maxRetries,
+      @Value("${app.notification.rate.base-backoff-ms:1000}") long baseBackoffMs,
+      @Value("${app.notification.rate.max-backoff-ms:30000}") long maxBackoffMs) {
+    this.additiveIncrease = additiveIncrease;
+    this.multiplicativeDecrease = multiplicativeDecrease;
+    this.maxRetries = maxRetries;
+    this.baseBackoffMs = baseBackoffMs;
+    this.maxBackoffMs = maxBackoffMs;
+    buckets.put(Provider.SMS, new Bucket(Provider.SMS, smsRate, smsMinRate, smsMaxRate, meterRegistry));
+    buckets.put(Provider.EMAIL, new Bucket(Provider.EMAIL, emailRate, emailMinRate, emailMaxRate, meterRegistry));
+  }
+
+  /**
+   * 토큰 획득 후 호출하며, 제공사 제한으로 실패하면 감속 후 재시도
+   *
+   * @param provider 제공사
+   * @param permits 발송할 메시지 수
+   * @param call 발송 호출
+   * @param isThrottled 제공사 제한(재시도 대상) 여부 판정
+   * @return 호출 결과
+   * @throws Exception 제한이 아닌 오류이거나 재시도를 모두 소진한 경우 마지막 예외
+   */
+  public <T> T execute(Provider provider, int permits, Callable<T> call, Predicate<Exception> isThrottled)
+      throws Exception {
+    for (int attempt = 0; ; attempt++) {
+      acquire(provider, permits);
+      try {
+        T result = call.call();
+        onSuccess(provider, permits);
+        return result;
+      } catch (Exception e) {
+        if (!isThrottled.test(e) || attempt >= maxRetries) {
+          throw e;
+        }
+        onThrottled(provider, permits);
+        log.warn("{} 제공사 제한 감지, 재시도 {}/{}: {}", provider, attempt + 1, maxRetries, e.getMessage());
+        backoff(attempt);
+      }
+    }
+  }
+
+  /**
+   * 메시지 수만큼 토큰을 획득 (부족하면 채워질 때까지 대기)
+   *
+   * @param provider 제공사
+   * @param permits 발송할 메시지 수
+   */
+  public void acquire(Provider provider, int permits) {
+    buckets.get(provider).acquire(permits);
+  }
+
+  /** 발송 성공 기록 (초당 허용량 가산 증가) */
+  public void onSuccess(Provider provider, int permits) {
+    buckets.get(provider).onSuccess(permits, additiveIncrease);
+  }
+
+  /** 제공사 제한 기록 (초당 허용량 배율 감소) */
+  public void onThrottled(Provider provider, int permits) {
+    buckets.get(provider).onThrottled(permits, multiplicativeDecrease);
+  }
+
+  /**
+   * 재시도 전 대기 (지수 백오프 + full jitter)
+   *
+   * @param attempt 0부터 시작하는 재시도 횟수
+   */
+  public void backoff(int attempt) {
+    long ceiling = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt, 20));
+    sleep(TimeUnit.MILLISECONDS.toNanos(ThreadLocalRandom.current().nextLong(ceiling + 1)));
+  }
+
+  /** 최대 재시도 횟수 */
+  public int maxRetries() {
+    return maxRetries;
+  }
+
+  private static void sleep(long nanos) {
+    if (nanos <= 0) {
+      return;
+    }
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * 초당 허용량이 변하는 토큰 버킷 (최대 1초 분량까지 축적)
+   *
+   * <p>토큰이 부족하면 미리 차감(음수 허용)하고 부족분이 채워질 시간만큼 호출 스레드를 대기시키므로, 동시 호출이 도착 순서대로 분산됨
+   */
+  private static final class Bucket {
+
+    private final Provider provider;
+    private final double minRate;
+    private final double maxRate;
+    private final AtomicLong queued = new AtomicLong();
+    private final Counter sent;
+    private final Counter throttled;
+
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    Bucket(Provider provider, double rate, double minRate, double maxRate, MeterRegistry meterRegistry) {
+      this.provider = provider;
+      this.minRate = minRate;
+      this.maxRate = maxRate;
+      this.rate = Math.max(minRate, Math.min(maxRate, rate));
+      this.tokens = this.rate;
+
+      String tag = provider.name().toLowerCase();
+      this.sent = Counter.builder("notification.outbound.sent").tag("provider", tag).register(meterRegistry);
+      this.throttled = Counter.builder("notification.outbound.throttled").tag("provider", tag).register(meterRegistry);
+      Gauge.builder("notification.outbound.queued", queued, AtomicLong::get)
+          .tag("provider", tag)
+          .register(meterRegistry);
+      Gauge.builder("notification.outbound.rate", this, Bucket::currentRate)
+          .tag("provider", tag)
+          .register(meterRegistry);
+    }
+
+    void acquire(int permits) {
+      queued.addAndGet(permits);
+      try {
+        sleep(reserve(permits));
+      } finally {
+        queued.addAndGet(-permits);
+      }
+    }
+
+    private synchronized long reserve(int permits) {
+      refill();
+      tokens -= permits;
+      return tokens >= 0 ? 0 : (long) (-tokens / rate * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private void refill() {
+      long now = System.nanoTime();
+      tokens = Math.min(rate, tokens + (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1) * rate);
+      lastRefillNanos = now;
+    }
+
+    synchronized void onSuccess(int permits, double increase) {
+      sent.increment(permits);
+      refill();
+      rate = Math.min(maxRate, rate + increase);
+    }
+
+    synchronized void onThrottled(int permits, double decrease) {
+      throttled.increment(permits);
+      refill();
+      double previous = rate;
+      rate = Math.max(minRate, rate * decrease);
+      log.debug("{} 발송 속도 감소: {} → {}/s", provider, previous, rate);
+    }
+
+    synchronized double currentRate() {
+      return rate;
+    }
+  }
+}
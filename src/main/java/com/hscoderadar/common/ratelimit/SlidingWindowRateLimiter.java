@@ -0,0 +1,141 @@
+package com.hscoderadar.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 슬라이딩 윈도우 Rate Limiter
+ *
+ * <p>키마다 Sorted Set(score = 요청 시각)을 두고 Lua 스크립트로 윈도우 밖의 기록 정리, 개수 확인, 기록 추가를 원자적으로 처리하므로
+ * 여러 노드에서 동일한 한도를 공유함. 한 번의 판정은 최대 한 번의 Redis 호출로 끝남.
+ *
+ * <h3>로컬 차단 캐시:</h3>
+ *
+ * <ul>
+ *   <li>Redis가 한도 초과를 응답하면 차단 해제 시각을 로컬 캐시에 저장
+ *   <li>차단 해제 전까지 같은 키의 요청은 Redis 호출 없이 즉시 거절 (크리덴셜 스터핑 등 폭주 대응)
+ *   <li>캐시는 크기 제한이 있어 메모리 사용량이 일정하게 유지됨
+ * </ul>
+ *
+ * <p>Redis 장애 시에는 서비스 가용성을 위해 요청을 허용함 (fail-open)
+ */
+@Component
+@Slf4j
+public class SlidingWindowRateLimiter {
+
+  private static final String KEY_PREFIX = "rate_limit:";
+
+  /**
+   * KEYS[1] = 키, ARGV[1] = 현재 시각(ms), ARGV[2] = 윈도우(ms), ARGV[3] = 한도, ARGV[4] = 기록 여부(1/0), ARGV[5] =
+   * 기록 멤버. 허용 시 0, 한도 초과 시 차단 해제까지 남은 시간(ms)을 반환
+   */
+  private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local now = tonumber(ARGV[1])
+          local window = tonumber(ARGV[2])
+          local limit = tonumber(ARGV[3])
+          redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+          local count = redis.call('ZCARD', KEYS[1])
+          if count >= limit then
+            local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            return math.max(1, tonumber(oldest[2]) + window - now)
+          end
+          if ARGV[4] == '1' then
+            redis.call('ZADD', KEYS[1], now, ARGV[5])
+            redis.call('PEXPIRE', KEYS[1], window)
+          end
+          return 0
+          """,
+          Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  // 키별 차단 해제 시각(epoch ms)
+  private final Cache<String, Long> blockedUntil;
+
+  public SlidingWindowRateLimiter(
+      StringRedisTemplate redisTemplate,
+      @Value("${app.security.rate-limit.local-cache-size:100000}") long localCacheSize) {
+    this.redisTemplate = redisTemplate;
+    this.blockedUntil =
+        Caffeine.newBuilder().maximumSize(localCacheSize).expireAfterWrite(Duration.ofHours(1)).build();
+  }
+
+  /**
+   * 요청을 한 건 기록하며 한도 이내인지 확인
+   *
+   * @param key 제한 대상 키 (예: chat:guest:{ip})
+   * @param limit 윈도우 내 최대 허용 횟수
+   * @param window 슬라이딩 윈도우 크기
+   * @return 허용되면 true, 한도 초과면 false
+   */
+  public boolean tryAcquire(String key, int limit, Duration window) {
+    return evaluate(key, limit, window, true);
+  }
+
+  /**
+   * 기록 없이 한도 이내인지만 확인 (실패 횟수 기반 제한에 사용)
+   *
+   * @param key 제한 대상 키 (예: login:{ip})
+   * @param limit 윈도우 내 최대 허용 횟수
+   * @param window 슬라이딩 윈도우 크기
+   * @return 허용되면 true, 한도 초과면 false
+   */
+  public boolean isAllowed(String key, int limit, Duration window) {
+    return evaluate(key, limit, window, false);
+  }
+
+  /**
+   * 한도 확인 없이 한 건 기록 (예: 로그인 실패)
+   *
+   * @param key 제한 대상 키
+   * @param window 슬라이딩 윈도우 크기
+   */
+  public void record(String key, Duration window) {
+    evaluate(key, Integer.MAX_VALUE, window, true);
+  }
+
+  private boolean evaluate(String key, int limit, Duration window, boolean record) {
+    long now = System.currentTimeMillis();
+
+    Long until = blockedUntil.getIfPresent(key);
+    if (until != null) {
+      if (until > now) {
+        return false;
+      }
+      blockedUntil.invalidate(key);
+    }
+
+    Long retryAfterMs;
+    try {
+      retryAfterMs =
+          redisTemplate.execute(
+              SLIDING_WINDOW_SCRIPT,
+              List.of(KEY_PREFIX + key),
+              String.valueOf(now),
+              String.valueOf(window.toMillis()),
+              String.valueOf(limit),
+              record ? "1" : "0",
+              now + "-" + ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE));
+    } catch (Exception e) {
+      log.warn("Rate limit 확인 실패, 요청 허용: key={}, error={}", key, e.getMessage());
+      return true;
+    }
+
+    if (retryAfterMs != null && retryAfterMs > 0) {
+      blockedUntil.put(key, now + retryAfterMs);
+      return false;
+    }
+    return true;
+  }
+}
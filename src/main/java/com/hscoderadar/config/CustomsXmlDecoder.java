@@ -0,0 +1,282 @@
+package com.hscoderadar.config;
+
+import com.ctc.wstx.stax.WstxInputFactory;
+import com.hscoderadar.domain.customs.dto.CargoClearanceProgressResponse;
+import com.hscoderadar.domain.customs.dto.CargoClearanceProgressResponse.CargoProgressDetail;
+import com.hscoderadar.domain.customs.dto.CargoClearanceProgressResponse.CargoProgressInfo;
+import com.hscoderadar.domain.exchange.dto.response.CustomsExchangeRateResponse;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 관세청 UNIPASS XML 응답 전용 StAX 바인더 (Woodstox)
+ *
+ * <p>응답 본문을 maxInMemorySize까지 모두 모은 뒤(버퍼링), XmlMapper의 리플렉션 바인딩과 토큰 버퍼 없이 XMLStreamReader 커서로 한 번
+ * 읽으면서 필요한 요소만 DTO에 바로 채움. 증분(non-blocking) 파싱이 아니므로 본문 크기만큼의 메모리는 사용하며, 줄어드는 것은 바인딩
+ * 비용뿐임. 알 수 없는 요소는 건너뛰며 DTD와 외부 엔티티는 처리하지 않음(XXE 방지).
+ *
+ * <p>{@link CustomsExchangeRateResponse}, {@link CargoClearanceProgressResponse}만 처리하며, 결과는 같은 애노테이션의
+ * XmlMapper 바인딩과 동일함(CustomsXmlDecoderTest). 그 밖의 타입은 WebClientConfig에 함께 등록된 Jackson XML 디코더가 처리함
+ */
+public final class CustomsXmlDecoder extends AbstractDecoder<Object> {
+
+  private static final Set<Class<?>> SUPPORTED_TYPES =
+      Set.of(CustomsExchangeRateResponse.class, CargoClearanceProgressResponse.class);
+
+  private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+  private final int maxInMemorySize;
+
+  public CustomsXmlDecoder(int maxInMemorySize) {
+    super(
+        new MimeType("application", "xml"),
+        new MimeType("text", "xml"),
+        new MimeType("application", "*+xml"));
+    this.maxInMemorySize = maxInMemorySize;
+  }
+
+  private static XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = new WstxInputFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+    return factory;
+  }
+
+  @Override
+  public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
+    return SUPPORTED_TYPES.contains(elementType.toClass()) && super.canDecode(elementType, mimeType);
+  }
+
+  @Override
+  public Flux<Object> decode(
+      Publisher<DataBuffer> input,
+      ResolvableType elementType,
+      @Nullable MimeType mimeType,
+      @Nullable Map<String, Object> hints) {
+    return Flux.from(decodeToMono(input, elementType, mimeType, hints));
+  }
+
+  @Override
+  public Mono<Object> decodeToMono(
+      Publisher<DataBuffer> input,
+      ResolvableType elementType,
+      @Nullable MimeType mimeType,
+      @Nullable Map<String, Object> hints) {
+    Class<?> type = elementType.toClass();
+    return DataBufferUtils.join(input, maxInMemorySize).map(buffer -> parse(buffer, type));
+  }
+
+  private Object parse(DataBuffer buffer, Class<?> type) {
+    XMLStreamReader reader = null;
+    try (InputStream in = buffer.asInputStream()) {
+      reader = INPUT_FACTORY.createXMLStreamReader(in);
+      return type == CustomsExchangeRateResponse.class ? readExchangeRates(reader) : readCargoClearance(reader);
+    } catch (Exception e) {
+      throw new DecodingException("관세청 XML 응답 파싱 실패: " + e.getMessage(), e);
+    } finally {
+      closeQuietly(reader);
+      DataBufferUtils.release(buffer);
+    }
+  }
+
+  /** 환율 응답 파싱 (trifFxrtInfoQryRtnVo) */
+  private static CustomsExchangeRateResponse readExchangeRates(XMLStreamReader reader)
+      throws XMLStreamException {
+    int totalCount = 0;
+    List<CustomsExchangeRateResponse.Item> items = new ArrayList<>();
+    enterRoot(reader);
+    while (nextChild(reader)) {
+      switch (reader.getLocalName()) {
+        case "tCnt" -> totalCount = parseInt(reader.getElementText(), 0);
+        case "trifFxrtInfoQryRsltVo" -> items.add(readExchangeRateItem(reader));
+        default -> skipElement(reader);
+      }
+    }
+    return new CustomsExchangeRateResponse(totalCount, items.isEmpty() ? null : items);
+  }
+
+  private static CustomsExchangeRateResponse.Item readExchangeRateItem(XMLStreamReader reader)
+      throws XMLStreamException {
+    String currencyCode = null;
+    String currencyName = null;
+    String exchangeRate = null;
+    String notifiedDate = null;
+    String rateType = null;
+    String countrySign = null;
+    while (nextChild(reader)) {
+      switch (reader.getLocalName()) {
+        case "currSgn" -> currencyCode = reader.getElementText();
+        case "mtryUtNm" -> currencyName = reader.getElementText();
+        case "fxrt" -> exchangeRate = reader.getElementText();
+        case "aplyBgnDt" -> notifiedDate = reader.getElementText();
+        case "imexTp" -> rateType = reader.getElementText();
+        case "cntySgn" -> countrySign = reader.getElementText();
+        default -> skipElement(reader);
+      }
+    }
+    return new CustomsExchangeRateResponse.Item(
+        currencyCode, currencyName, exchangeRate, notifiedDate, rateType, countrySign);
+  }
+
+  /** 화물통관 진행정보 응답 파싱 (cargCsclPrgsInfoQryRtnVo) */
+  private static CargoClearanceProgressResponse readCargoClearance(XMLStreamReader reader)
+      throws XMLStreamException {
+    CargoClearanceProgressResponse response = new CargoClearanceProgressResponse();
+    List<CargoProgressDetail> details = new ArrayList<>();
+    enterRoot(reader);
+    while (nextChild(reader)) {
+      switch (reader.getLocalName()) {
+        case "tCnt" -> response.setTotalCount(parseInt(reader.getElementText(), 0));
+        case "cargCsclPrgsInfoQryVo" -> response.setBaseInfo(readCargoProgressInfo(reader));
+        case "cargCsclPrgsInfoDtlQryVo" -> details.add(readCargoProgressDetail(reader));
+        default -> skipElement(reader);
+      }
+    }
+    response.setDetailList(details.isEmpty() ? null : details);
+    return response;
+  }
+
+  private static CargoProgressInfo readCargoProgressInfo(XMLStreamReader reader) throws XMLStreamException {
+    CargoProgressInfo info = new CargoProgressInfo();
+    while (nextChild(reader)) {
+      switch (reader.getLocalName()) {
+        case "cargMtNo" -> info.setCargoManagementNumber(reader.getElementText());
+        case "prgsStts" -> info.setProgressStatus(reader.getElementText());
+        case "csclPrgsStts" -> info.setClearanceProgressStatus(reader.getElementText());
+        case "shipNatNm" -> info.setShipNationalityName(reader.getElementText());
+        case "shcoFlco" -> info.setShippingCompany(reader.getElementText());
+        case "mblNo" -> info.setMblNo(reader.getElementText());
+        case "hblNo" -> info.setHblNo(reader.getElementText());
+        case "dsprNm" -> info.setPortOfDischargeName(reader.getElementText());
+        case "etprDt" -> info.setEntryDate(reader.getElementText());
+        case "pckGcnt" -> info.setPackageCount(parseInteger(reader.getElementText()));
+        case "ttwg" -> info.setTotalWeight(parseDouble(reader.getElementText()));
+        default -> skipElement(reader);
+      }
+    }
+    return info;
+  }
+
+  private static CargoProgressDetail readCargoProgressDetail(XMLStreamReader reader) throws XMLStreamException {
+    CargoProgressDetail detail = new CargoProgressDetail();
+    while (nextChild(reader)) {
+      switch (reader.getLocalName()) {
+        case "cargTrcnRelaBsopTpcd" -> detail.setProcessType(reader.getElementText());
+        case "rlbrDttm" -> detail.setProcessDateTime(reader.getElementText());
+        case "shedNm" -> detail.setWarehouseName(reader.getElementText());
+        case "rlbrCn" -> detail.setProcessContent(reader.getElementText());
+        case "pckGcnt" -> detail.setPackageCount(parseInteger(reader.getElementText()));
+        case "wght" -> detail.setWeight(parseDouble(reader.getElementText()));
+        default -> skipElement(reader);
+      }
+    }
+    return detail;
+  }
+
+  /** 루트 요소의 START_ELEMENT로 이동 */
+  private static void enterRoot(XMLStreamReader reader) throws XMLStreamException {
+    while (reader.hasNext()) {
+      if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+        return;
+      }
+    }
+    throw new XMLStreamException("루트 요소가 없습니다.");
+  }
+
+  /**
+   * 현재 요소의 다음 자식 요소 시작으로 이동
+   *
+   * <p>호출 시점에 reader는 부모 요소의 START_ELEMENT 또는 직전 자식의 END_ELEMENT에 있어야 하며(자식의 하위 요소는 각 read 메서드가
+   * 모두 소비함), 부모 요소가 끝나면 false를 반환함
+   */
+  private static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        return true;
+      }
+      if (event == XMLStreamConstants.END_ELEMENT) {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  /** 현재 요소(START_ELEMENT)를 하위 요소까지 건너뜀 */
+  private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+    int depth = 1;
+    while (depth > 0 && reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+  }
+
+  private static int parseInt(String text, int defaultValue) {
+    Integer value = parseInteger(text);
+    return value != null ? value : defaultValue;
+  }
+
+  private static Integer parseInteger(String text) {
+    String value = normalizeNumber(text);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Integer.valueOf(value);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static Double parseDouble(String text) {
+    String value = normalizeNumber(text);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Double.valueOf(value);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static String normalizeNumber(String text) {
+    if (text == null) {
+      return null;
+    }
+    String value = text.strip().replace(",", "");
+    return value.isEmpty() ? null : value;
+  }
+
+  private static void closeQuietly(@Nullable XMLStreamReader reader) {
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (XMLStreamException ignored) {
+        // 이미 닫힌 경우 무시
+      }
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.hscoderadar.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -10,6 +11,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Redis Queue 설정
@@ -43,21 +45,25 @@ public class RedisQueueConfig {
   }
 
   /**
-   * 알림 소비자용 TaskExecutor
-   * 백그라운드 스레드에서 Redis Queue를 모니터링
+   * 알림 발송용 TaskExecutor
+   * 배치로 꺼낸 알림을 사용자 단위로 나누어 병렬 발송 (SMS/SMTP 호출은 I/O 대기 위주이므로 코어 수보다 넉넉하게 구성)
    */
   @Bean(name = "notificationTaskExecutor")
-  public Executor notificationTaskExecutor() {
+  public Executor notificationTaskExecutor(
+      @Value("${app.notification.dispatch.worker-threads:0}") int workerThreads,
+      @Value("${app.notification.dispatch.queue-capacity:1000}") int queueCapacity) {
+    int poolSize = workerThreads > 0 ? workerThreads : Runtime.getRuntime().availableProcessors() * 4;
+
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-    executor.setCorePoolSize(2);
-    executor.setMaxPoolSize(4);
-    executor.setQueueCapacity(100);
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
     executor.setThreadNamePrefix("notification-consumer-");
-    executor.setRejectedExecutionHandler((r, exec) -> {
-      // 큐가 가득 찰 경우 처리
-      throw new RuntimeException("알림 처리 큐가 가득 참");
-    });
+    // 큐가 가득 찰 경우 호출 스레드에서 직접 처리하여 발송 속도를 늦춤 (작업 유실 방지)
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(60);
     executor.initialize();
     return executor;
   }
-}
\ No newline at end of file
+}
@@ -17,7 +17,11 @@ import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import io.netty.handler.logging.LogLevel;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.transport.logging.AdvancedByteBufFormat;
 import java.util.concurrent.TimeUnit;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
@@ -29,6 +33,11 @@ import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 @Configuration
 public class WebClientConfig {
 
+  static final String PYTHON_AI_WIRETAP_CATEGORY = "reactor.netty.http.client.python-ai";
+
+  // 관세청 XML 응답 최대 크기 (환율 전체 목록 기준으로 여유 있게 설정)
+  private static final int CUSTOMS_XML_MAX_IN_MEMORY_SIZE = 2 * 1024 * 1024;
+
   @Bean
   public WebClient webClient(ObjectMapper objectMapper) {
     XmlMapper xmlMapper = new XmlMapper();
@@ -40,7 +49,8 @@ public class WebClientConfig {
           configurer.defaultCodecs()
               .jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper, MediaType.APPLICATION_JSON));
 
-          // 커스텀 디코더 등록
+          // 커스텀 디코더 등록 (관세청 응답 DTO는 StAX 디코더가 먼저 처리, 그 외 XML은 XmlMapper)
+          configurer.customCodecs().register(new CustomsXmlDecoder(CUSTOMS_XML_MAX_IN_MEMORY_SIZE));
           configurer.customCodecs().register(new Jackson2JsonDecoder(xmlMapper, new MediaType("application", "xml")));
           configurer.customCodecs().register(new Jackson2JsonDecoder(xmlMapper, new MediaType("text", "xml")));
 
@@ -66,13 +76,46 @@ public class WebClientConfig {
         .build();
   }
 
+  /**
+   * Python AI 서버 전용 커넥션 풀
+   *
+   * <p>
+   * SSE 스트림 하나가 응답이 끝날 때까지 커넥션을 점유하므로 기본 풀 대신 동시 스트림 수에 맞춘 풀을 사용함.
+   * 풀 상태는 reactor.netty.connection.provider.* 메트릭으로 확인 가능
+   */
+  @Bean(destroyMethod = "dispose")
+  public ConnectionProvider pythonAiConnectionProvider(
+      @Value("${ai.python.server.pool.max-connections:500}") int maxConnections,
+      @Value("${ai.python.server.pool.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+      @Value("${ai.python.server.pool.pending-acquire-timeout:5000}") long pendingAcquireTimeout,
+      @Value("${ai.python.server.pool.max-idle-time:30000}") long maxIdleTime,
+      @Value("${ai.python.server.pool.max-life-time:600000}") long maxLifeTime,
+      @Value("${ai.python.server.pool.evict-interval:60000}") long evictInterval) {
+    return ConnectionProvider.builder("python-ai")
+        .maxConnections(maxConnections)
+        .pendingAcquireMaxCount(pendingAcquireMaxCount)
+        .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeout))
+        .maxIdleTime(Duration.ofMillis(maxIdleTime))
+        .maxLifeTime(Duration.ofMillis(maxLifeTime))
+        .evictInBackground(Duration.ofMillis(evictInterval))
+        .metrics(true)
+        .build();
+  }
+
   /**
    * Python AI 서버 통신용 WebClient (SSL/HTTP 안정성 개선)
+   *
+   * <p>
+   * ai.python.server.http2.enabled=true면 h2c(HTTP/2 평문)로 하나의 커넥션에서 여러 스트림을 다중화함.
+   * 와이어 로깅 핸들러는 항상 등록되며, 출력 여부는 {@value #PYTHON_AI_WIRETAP_CATEGORY} 로거 레벨(DEBUG)로만 결정되므로
+   * 재시작 없이 전환 가능 (로거가 비활성화된 동안에는 이벤트마다 레벨 확인만 수행)
    */
   @Bean
   public WebClient pythonAiWebClient(@Value("${ai.python.server.url}") String baseUrl,
       @Value("${ai.python.server.timeout.connect:10000}") int connectTimeout,
-      @Value("${ai.python.server.timeout.read:30000}") int readTimeout) {
+      @Value("${ai.python.server.timeout.read:30000}") int readTimeout,
+      @Value("${ai.python.server.http2.enabled:false}") boolean http2Enabled,
+      ConnectionProvider pythonAiConnectionProvider) {
 
     // SSE 스트리밍을 위한 대용량 버퍼 설정
     ExchangeStrategies strategies = ExchangeStrategies.builder()
@@ -82,7 +125,7 @@ public class WebClientConfig {
         .build();
 
     // HTTP/HTTPS 안정성을 위한 HttpClient 설정 (EOFException 방지 개선)
-    HttpClient httpClient = HttpClient.create()
+    HttpClient httpClient = HttpClient.create(pythonAiConnectionProvider)
         .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
         .option(ChannelOption.SO_KEEPALIVE, true)
         .option(ChannelOption.TCP_NODELAY, true)
@@ -101,9 +144,16 @@ public class WebClientConfig {
           }
         })
         // Keep-alive 설정으로 연결 안정성 향상
-        .keepAlive(true)
-        // 연결 오류 시 재시도 메커니즘
-        .wiretap(true); // 네트워크 디버깅용
+        .keepAlive(true);
+
+    if (http2Enabled) {
+      // h2c 우선, 업그레이드 실패 시 HTTP/1.1 사용
+      httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+    }
+
+    // 네트워크 디버깅용 (로거 레벨이 DEBUG일 때만 출력, 실행 중 로거 레벨 변경으로 전환)
+    httpClient = httpClient.wiretap(PYTHON_AI_WIRETAP_CATEGORY, LogLevel.DEBUG,
+        AdvancedByteBufFormat.TEXTUAL);
 
     return WebClient.builder()
         .baseUrl(baseUrl)
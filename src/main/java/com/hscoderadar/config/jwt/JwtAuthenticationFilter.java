@@ -124,11 +124,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     // 1. Authorization Bearer 헤더에서 Access Token 추출
     String token = resolveToken(request);
 
-    // 2. validateToken으로 토큰 유효성 검사 및 블랙리스트 검증
-    if (token != null && jwtTokenProvider.validateToken(token)) {
+    // 2. validate로 토큰 유효성 검사 및 블랙리스트 검증 (요청당 한 번만 파싱)
+    ValidatedToken validatedToken = token != null ? jwtTokenProvider.validate(token) : null;
+    if (validatedToken != null) {
       try {
-        // 토큰이 유효할 경우 토큰에서 Authentication 객체를 가지고 와서 SecurityContext에 저장
-        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        // 토큰이 유효할 경우 검증된 클레임에서 Authentication 객체를 가지고 와서 SecurityContext에 저장
+        Authentication authentication = jwtTokenProvider.getAuthentication(validatedToken);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         log.debug("JWT 토큰 인증 성공: {}", authentication.getName());
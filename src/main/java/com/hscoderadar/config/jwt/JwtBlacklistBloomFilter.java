@@ -0,0 +1,191 @@
+package com.hscoderadar.config.jwt;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis JWT 블랙리스트(jwt:blacklist:{jti})의 로컬 Bloom 필터 미러
+ *
+ * <p>블랙리스트에 오르는 토큰은 극히 일부이므로, 인증 요청마다 Redis hasKey를 호출하는 대신 이 필터가 "확실히 없음"을 판정하면 Redis
+ * 조회를 생략함. 필터가 "있을 수 있음"이라고 답한 경우에만 Redis에서 최종 확인함.
+ *
+ * <h3>동기화 방식:</h3>
+ *
+ * <ul>
+ *   <li>블랙리스트 추가 시 로컬 필터에 즉시 반영하고 jwt:blacklist:events 채널로 JTI 원문을 발행
+ *   <li>다른 노드는 Pub/Sub 메시지를 받아 자신의 필터에 반영
+ *   <li>기동 시와 주기적으로 jwt:blacklist:* 키를 SCAN하여 필터를 재구성 (만료된 JTI 정리, 유실된 메시지 보정)
+ *   <li>최초 구성 전이거나 구성에 실패한 경우 모든 조회를 Redis로 위임
+ * </ul>
+ */
+@Component
+@Slf4j
+public class JwtBlacklistBloomFilter implements MessageListener {
+
+  static final String CHANNEL = "jwt:blacklist:events";
+  private static final String BLACKLIST_KEY_PATTERN = "jwt:blacklist:*";
+  private static final int BLACKLIST_PREFIX_LENGTH = "jwt:blacklist:".length();
+
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final long expectedInsertions;
+  private final double falsePositiveRate;
+
+  private volatile BloomFilter current;
+  // 재구성 중인 필터 (this 모니터로 보호)
+  private BloomFilter pending;
+  private volatile boolean ready = false;
+
+  public JwtBlacklistBloomFilter(
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      @Value("${app.security.jwt-blacklist.filter.expected-insertions:100000}")
+          long expectedInsertions,
+      @Value("${app.security.jwt-blacklist.filter.false-positive-rate:0.01}")
+          double falsePositiveRate) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.current = new BloomFilter(expectedInsertions, falsePositiveRate);
+  }
+
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    rebuild();
+  }
+
+  /**
+   * 블랙리스트에 있을 가능성이 있는지 확인
+   *
+   * @param jti 토큰 JTI
+   * @return false면 블랙리스트에 확실히 없음, true면 Redis 확인 필요
+   */
+  public boolean mightContain(String jti) {
+    return !ready || current.mightContain(jti);
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+  }
+
+  /** 만료된 JTI를 정리하고 유실된 동기화 메시지를 보정하기 위해 Redis 기준으로 필터를 재구성 */
+  @Scheduled(
+      fixedDelayString = "${app.security.jwt-blacklist.filter.rebuild-interval-ms:600000}",
+      initialDelayString = "${app.security.jwt-blacklist.filter.rebuild-interval-ms:600000}")
+  public void rebuild() {
+    BloomFilter fresh = new BloomFilter(expectedInsertions, falsePositiveRate);
+    long count = 0;
+
+    // 재구성 중에 추가되는 JTI도 새 필터에 반영되도록 스캔 전에 등록
+    synchronized (this) {
+      pending = fresh;
+    }
+
+    ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_KEY_PATTERN).count(1000).build();
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      while (cursor.hasNext()) {
+        fresh.put(cursor.next().substring(BLACKLIST_PREFIX_LENGTH));
+        count++;
+      }
+    } catch (Exception e) {
+      synchronized (this) {
+        pending = null;
+      }
+      log.warn("JWT 블랙리스트 필터 재구성 실패, 기존 필터 유지: ready={}, error={}", ready, e.getMessage());
+      return;
+    }
+
+    synchronized (this) {
+      current = fresh;
+      pending = null;
+    }
+    ready = true;
+    log.info("JWT 블랙리스트 필터 재구성 완료: entries={}", count);
+  }
+
+  /**
+   * 다른 노드로 전파하지 않고 로컬 필터에만 JTI를 추가 (발행은 호출자가 담당)
+   *
+   * @param jti 블랙리스트에 추가된 토큰 JTI
+   */
+  synchronized void addLocal(String jti) {
+    current.put(jti);
+    if (pending != null) {
+      pending.put(jti);
+    }
+  }
+
+  /** AtomicLongArray 기반 Bloom 필터 (조회는 락 없이 수행) */
+  static final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+      long n = Math.max(1, expectedInsertions);
+      long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+      this.bitSize = Math.max(64, m);
+      this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+      this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    void put(String value) {
+      long h1 = hash(value);
+      long h2 = mix(h1);
+      for (int i = 0; i < hashCount; i++) {
+        long index = Math.floorMod(h1 + i * h2, bitSize);
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long prev;
+        do {
+          prev = bits.get(word);
+        } while ((prev & mask) == 0 && !bits.compareAndSet(word, prev, prev | mask));
+      }
+    }
+
+    boolean mightContain(String value) {
+      long h1 = hash(value);
+      long h2 = mix(h1);
+      for (int i = 0; i < hashCount; i++) {
+        long index = Math.floorMod(h1 + i * h2, bitSize);
+        if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    // FNV-1a 64bit
+    private static long hash(String value) {
+      long h = 0xcbf29ce484222325L;
+      for (int i = 0; i < value.length(); i++) {
+        h ^= value.charAt(i);
+        h *= 0x100000001b3L;
+      }
+      return h;
+    }
+
+    // SplitMix64 finalizer (두 번째 해시, 홀수 보장)
+    private static long mix(long h) {
+      h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+      h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+      return (h ^ (h >>> 31)) | 1L;
+    }
+  }
+}
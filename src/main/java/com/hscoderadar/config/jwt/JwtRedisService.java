@@ -1,14 +1,19 @@
 package com.hscoderadar.config.jwt;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,15 +24,22 @@ import org.springframework.stereotype.Service;
  * 중 상태 관리 -
  * jwt:blacklist:{tokenJti} # 토큰 블랙리스트 - jwt:issue_log:{userId}:{date} # 토큰 발급
  * 기록
+ *
+ * <p>
+ * 하나의 작업에 필요한 여러 명령(HSET/HINCRBY/EXPIRE/DEL/PUBLISH)은 파이프라인으로 묶어 한 번의 왕복으로 전송함
  */
 @Service
 @Slf4j
 public class JwtRedisService {
 
   private final RedisTemplate<String, Object> redisTemplate;
+  private final JwtBlacklistBloomFilter blacklistFilter;
 
-  public JwtRedisService(@Qualifier("redisObjectTemplate") RedisTemplate<String, Object> redisTemplate) {
+  public JwtRedisService(
+      @Qualifier("redisObjectTemplate") RedisTemplate<String, Object> redisTemplate,
+      JwtBlacklistBloomFilter blacklistFilter) {
     this.redisTemplate = redisTemplate;
+    this.blacklistFilter = blacklistFilter;
   }
 
   private static final String REFRESH_IN_PROGRESS_PREFIX = "jwt:refresh_in_progress:";
@@ -58,8 +70,10 @@ public class JwtRedisService {
     refreshData.put("rememberMe", rememberMe);
     refreshData.put("startedAt", System.currentTimeMillis());
 
-    redisTemplate.opsForHash().putAll(key, refreshData);
-    redisTemplate.expire(key, Duration.ofSeconds(30));
+    pipelined(ops -> {
+      ops.opsForHash().putAll(key, refreshData);
+      ops.expire(key, Duration.ofSeconds(30));
+    });
 
     log.debug("토큰 갱신 진행 상태 저장: userId={}, rememberMe={}", userId, rememberMe);
   }
@@ -95,26 +109,51 @@ public class JwtRedisService {
    * @param originalTtlSeconds 원본 토큰 TTL (초)
    */
   public void addToBlacklist(String tokenJti, String reason, Long userId, long originalTtlSeconds) {
-    String key = BLACKLIST_PREFIX + tokenJti;
+    pipelined(ops -> writeBlacklist(ops, tokenJti, reason, userId, originalTtlSeconds));
+    blacklistFilter.addLocal(tokenJti);
 
-    Map<String, Object> blacklistData = new HashMap<>();
-    blacklistData.put("reason", reason);
-    blacklistData.put("userId", userId);
-    blacklistData.put("blacklistedAt", System.currentTimeMillis());
+    log.info("토큰 블랙리스트 추가: jti={}, reason={}, userId={}", tokenJti, reason, userId);
+  }
 
-    redisTemplate.opsForHash().putAll(key, blacklistData);
-    redisTemplate.expire(key, Duration.ofSeconds(originalTtlSeconds));
+  /**
+   * 토큰 갱신 마무리 작업을 한 번의 파이프라인으로 처리
+   *
+   * <p>
+   * 기존 토큰 블랙리스트 추가, 새 Access Token 발급 기록, 갱신 진행 상태 삭제를 함께 전송함
+   *
+   * @param userId             사용자 ID
+   * @param oldTokenJti        블랙리스트에 추가할 기존 토큰 JTI (null이면 생략)
+   * @param reason             블랙리스트 사유
+   * @param originalTtlSeconds 블랙리스트 TTL (초)
+   */
+  public void completeTokenRefresh(
+      Long userId, String oldTokenJti, String reason, long originalTtlSeconds) {
+    pipelined(ops -> {
+      if (oldTokenJti != null) {
+        writeBlacklist(ops, oldTokenJti, reason, userId, originalTtlSeconds);
+      }
+      writeTokenIssue(ops, userId, "accessTokenCount");
+      ops.delete(REFRESH_IN_PROGRESS_PREFIX + userId);
+    });
+    if (oldTokenJti != null) {
+      blacklistFilter.addLocal(oldTokenJti);
+    }
 
-    log.info("토큰 블랙리스트 추가: jti={}, reason={}, userId={}", tokenJti, reason, userId);
+    log.debug("토큰 갱신 마무리 완료: userId={}, blacklistedJti={}", userId, oldTokenJti);
   }
 
   /**
    * 토큰이 블랙리스트에 있는지 확인
    *
+   * <p>로컬 Bloom 필터가 없다고 판정하면 Redis를 조회하지 않음
+   *
    * @param tokenJti 토큰 JTI
    * @return 블랙리스트에 있으면 true
    */
   public boolean isTokenBlacklisted(String tokenJti) {
+    if (!blacklistFilter.mightContain(tokenJti)) {
+      return false;
+    }
     String key = BLACKLIST_PREFIX + tokenJti;
     return Boolean.TRUE.equals(redisTemplate.hasKey(key));
   }
@@ -126,25 +165,21 @@ public class JwtRedisService {
    * @param isAccessToken 액세스 토큰 여부 (false면 리프레시 토큰)
    */
   public void logTokenIssue(Long userId, boolean isAccessToken) {
-    String today = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-    String key = ISSUE_LOG_PREFIX + userId + ":" + today;
-
     String tokenTypeField = isAccessToken ? "accessTokenCount" : "refreshTokenCount";
+    pipelined(ops -> writeTokenIssue(ops, userId, tokenTypeField));
 
-    // 카운트 증가
-    redisTemplate.opsForHash().increment(key, tokenTypeField, 1);
-
-    // 마지막 발급 시간 업데이트
-    redisTemplate.opsForHash().put(key, "lastIssueTime", System.currentTimeMillis());
+    log.debug("토큰 발급 기록: userId={}, type={}", userId, isAccessToken ? "ACCESS" : "REFRESH");
+  }
 
-    // TTL 설정 (24시간)
-    redisTemplate.expire(key, Duration.ofDays(1));
+  /**
+   * 로그인 시 Access/Refresh Token 발급 기록을 한 번의 파이프라인으로 저장
+   *
+   * @param userId 사용자 ID
+   */
+  public void logTokenPairIssue(Long userId) {
+    pipelined(ops -> writeTokenIssue(ops, userId, "accessTokenCount", "refreshTokenCount"));
 
-    log.debug(
-        "토큰 발급 기록: userId={}, type={}, date={}",
-        userId,
-        isAccessToken ? "ACCESS" : "REFRESH",
-        today);
+    log.debug("토큰 발급 기록: userId={}, type=ACCESS+REFRESH", userId);
   }
 
   /**
@@ -184,4 +219,53 @@ public class JwtRedisService {
     clearRefreshInProgress(userId);
     log.info("사용자 토큰 상태 정리 완료: userId={}", userId);
   }
+
+  /** 블랙리스트 해시 저장, TTL 설정, 노드 간 동기화 메시지 발행 명령을 추가 */
+  private void writeBlacklist(
+      RedisOperations<String, Object> ops,
+      String tokenJti,
+      String reason,
+      Long userId,
+      long originalTtlSeconds) {
+    String key = BLACKLIST_PREFIX + tokenJti;
+
+    Map<String, Object> blacklistData = new HashMap<>();
+    blacklistData.put("reason", reason);
+    blacklistData.put("userId", userId);
+    blacklistData.put("blacklistedAt", System.currentTimeMillis());
+
+    ops.opsForHash().putAll(key, blacklistData);
+    ops.expire(key, Duration.ofSeconds(originalTtlSeconds));
+
+    // 다른 노드의 로컬 필터에 전파 (JTI를 JSON이 아닌 원문 그대로 발행)
+    byte[] channel = JwtBlacklistBloomFilter.CHANNEL.getBytes(StandardCharsets.UTF_8);
+    byte[] message = tokenJti.getBytes(StandardCharsets.UTF_8);
+    ops.execute((RedisCallback<Object>) connection -> connection.publish(channel, message));
+  }
+
+  /** 발급 카운트 증가, 마지막 발급 시간 갱신, TTL(24시간) 설정 명령을 추가 */
+  private void writeTokenIssue(
+      RedisOperations<String, Object> ops, Long userId, String... tokenTypeFields) {
+    String today = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+    String key = ISSUE_LOG_PREFIX + userId + ":" + today;
+
+    for (String field : tokenTypeFields) {
+      ops.opsForHash().increment(key, field, 1);
+    }
+    ops.opsForHash().put(key, "lastIssueTime", System.currentTimeMillis());
+    ops.expire(key, Duration.ofDays(1));
+  }
+
+  /** 전달된 명령들을 하나의 파이프라인으로 묶어 한 번의 왕복으로 실행 */
+  private void pipelined(Consumer<RedisOperations<String, Object>> commands) {
+    redisTemplate.executePipelined(
+        new SessionCallback<Object>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public <K, V> Object execute(RedisOperations<K, V> operations) {
+            commands.accept((RedisOperations<String, Object>) operations);
+            return null;
+          }
+        });
+  }
 }
@@ -38,6 +38,7 @@ public class JwtTokenProvider {
   private final JwtProperties jwtProperties;
   private final UserRepository userRepository;
   private final JwtRedisService jwtRedisService;
+  private final PrincipalCache principalCache;
 
   private SecretKey key;
 
@@ -119,8 +120,7 @@ public class JwtTokenProvider {
         userRepository
             .findByEmail(authentication.getName())
             .orElseThrow(() -> AuthException.userNotFound());
-    jwtRedisService.logTokenIssue(user.getId(), true); // Access Token
-    jwtRedisService.logTokenIssue(user.getId(), false); // Refresh Token
+    jwtRedisService.logTokenPairIssue(user.getId()); // Access + Refresh Token
 
     log.debug(
         "토큰 생성 완료: AccessToken 만료={}분, RefreshToken 만료={}일",
@@ -171,15 +171,15 @@ public class JwtTokenProvider {
     log.debug("Access Token 갱신 시작");
 
     try {
-      // 1. Refresh Token 유효성 검증
-      if (!validateToken(refreshToken)) {
+      // 1. Refresh Token 유효성 검증 (한 번만 파싱하여 이후 단계에서 재사용)
+      ValidatedToken validatedRefreshToken = validate(refreshToken);
+      if (validatedRefreshToken == null) {
         log.warn("유효하지 않은 Refresh Token");
         throw AuthException.invalidToken();
       }
 
       // 2. Refresh Token에서 사용자 정보 추출
-      Claims claims = parseClaims(refreshToken);
-      String userEmail = claims.getSubject();
+      String userEmail = validatedRefreshToken.subject();
 
       // 3. users 테이블에서 refresh token 일치 확인
       User user =
@@ -239,31 +239,13 @@ public class JwtTokenProvider {
           new Date(now + refreshTokenExpiration),
           user.getRememberMeEnabled());
 
-      // 8. 기존 토큰들을 블랙리스트에 추가
-      String oldAccessTokenJti = extractJti(refreshToken);
-      if (oldAccessTokenJti != null) {
-        jwtRedisService.addToBlacklist(
-            oldAccessTokenJti,
-            "TOKEN_REFRESH",
-            user.getId(),
-            jwtProperties.getAccessTokenExpirationMs() / 1000);
-      }
-
-      String oldRefreshTokenJti = extractJti(refreshToken);
-      if (oldRefreshTokenJti != null) {
-        jwtRedisService.addToBlacklist(
-            oldRefreshTokenJti, "TOKEN_REFRESH", user.getId(), refreshTokenExpiration / 1000);
-      }
-
-      // 9. Redis 갱신 상태 업데이트
-      jwtRedisService.setRefreshInProgress(
-          user.getId(), refreshToken, newRefreshToken, newAccessToken, user.getRememberMeEnabled());
-
-      // 10. 토큰 발급 기록
-      jwtRedisService.logTokenIssue(user.getId(), true); // 새로운 Access Token
-
-      // 11. Redis 갱신 진행 상태 정리
-      jwtRedisService.clearRefreshInProgress(user.getId());
+      // 8. 기존 Refresh Token 블랙리스트 추가, 새 Access Token 발급 기록, 갱신 진행 상태 정리
+      // (한 번의 Redis 파이프라인으로 처리)
+      jwtRedisService.completeTokenRefresh(
+          user.getId(),
+          validatedRefreshToken.jti(),
+          "TOKEN_REFRESH",
+          refreshTokenExpiration / 1000);
 
       log.info(
           "Access Token 갱신 완료: email={}, rememberMe={}", userEmail, user.getRememberMeEnabled());
@@ -285,16 +267,29 @@ public class JwtTokenProvider {
    */
   public Authentication getAuthentication(String accessToken) {
     // 토큰 복호화
-    Claims claims = parseClaims(accessToken);
+    return getAuthentication(parseClaims(accessToken));
+  }
+
+  /**
+   * 이미 검증된 토큰에서 인증 정보를 반환합니다. 필터 체인에서 토큰을 다시 파싱하지 않기 위해 사용합니다.
+   *
+   * @param validatedToken {@link #validate(String)}로 검증된 토큰
+   * @return Spring Security의 인증 정보(Authentication)
+   */
+  public Authentication getAuthentication(ValidatedToken validatedToken) {
+    return getAuthentication(validatedToken.claims());
+  }
 
+  private Authentication getAuthentication(Claims claims) {
     if (claims.get("auth") == null) {
       throw new RuntimeException("권한 정보가 없는 토큰입니다.");
     }
 
     // 클레임에서 권한 정보 가져오기
-    // 클레임에서 유저 정보(이메일)를 꺼내 CustomUserDetailsService를 통해 UserDetails를 로드합니다.
-    // 이렇게 하면 PrincipalDetails 타입의 객체가 반환됩니다.
-    UserDetails principal = customUserDetailsService.loadUserByUsername(claims.getSubject());
+    // 클레임에서 유저 정보(이메일)를 꺼내 CustomUserDetailsService를 통해 Principal 스냅샷(ID, 이메일)을 로드합니다.
+    // 엔티티를 담지 않는 불변 객체이므로 로컬 Principal 캐시에 있으면 DB 조회 없이 여러 요청이 공유합니다.
+    UserDetails principal =
+        principalCache.get(claims.getSubject(), customUserDetailsService::loadPrincipalSnapshot);
 
     // 로드된 UserDetails(PrincipalDetails)를 사용하여 Authentication 객체를 생성합니다.
     return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
@@ -307,17 +302,30 @@ public class JwtTokenProvider {
    * @return 토큰이 유효하면 true, 아니면 false
    */
   public boolean validateToken(String token) {
+    return validate(token) != null;
+  }
+
+  /**
+   * 토큰을 한 번만 파싱하여 서명, 만료, 블랙리스트를 검증하고 검증된 토큰 객체를 반환합니다.
+   *
+   * <p>서명 검증과 클레임 디코딩이 요청당 한 번만 일어나도록, 호출자는 반환된 객체를 JTI 추출 및 인증 객체 생성에 재사용해야 합니다.
+   *
+   * @param token 검증할 JWT
+   * @return 유효하면 검증된 토큰, 아니면 null
+   */
+  public ValidatedToken validate(String token) {
     try {
-      Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+      Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+      ValidatedToken validatedToken = new ValidatedToken(token, claims);
 
       // 블랙리스트 검증
-      String jti = extractJti(token);
+      String jti = validatedToken.jti();
       if (jti != null && jwtRedisService.isTokenBlacklisted(jti)) {
         log.warn("블랙리스트된 토큰 사용 시도: jti={}", jti);
-        return false;
+        return null;
       }
 
-      return true;
+      return validatedToken;
     } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
       log.info("Invalid JWT Token", e);
     } catch (ExpiredJwtException e) {
@@ -327,7 +335,7 @@ public class JwtTokenProvider {
     } catch (IllegalArgumentException e) {
       log.info("JWT claims string is empty.", e);
     }
-    return false;
+    return null;
   }
 
   /**
@@ -350,13 +358,13 @@ public class JwtTokenProvider {
   @Transactional
   public void addToBlacklist(String token, String reason) {
     try {
-      String jti = extractJti(token);
+      Claims claims = parseClaims(token);
+      String jti = claims.get("jti", String.class);
       if (jti == null) {
         log.warn("JTI가 없는 토큰을 블랙리스트에 추가할 수 없음");
         return;
       }
 
-      Claims claims = parseClaims(token);
       String userEmail = claims.getSubject();
       User user =
           userRepository.findByEmail(userEmail).orElseThrow(() -> AuthException.userNotFound());
@@ -0,0 +1,124 @@
+package com.hscoderadar.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hscoderadar.config.oauth.PrincipalDetails;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JWT 인증용 Principal 로컬 캐시
+ *
+ * <p>매 요청마다 users 테이블을 조회하여 PrincipalDetails를 다시 만드는 비용을 제거하기 위해, 검증된 토큰의 subject(이메일) 기준으로
+ * 불변 Principal 스냅샷(사용자 ID, 이메일)을 보관함. 엔티티를 담지 않으므로 여러 요청이 공유해도 서로의 변경에 영향을 받지 않으며, 사용자
+ * 정보가 필요한 서비스는 ID로 엔티티를 다시 조회함.
+ *
+ * <h3>무효화:</h3>
+ *
+ * <ul>
+ *   <li>스냅샷이 더 이상 유효하지 않게 되는 지점(로그아웃, 비밀번호 변경/재설정, 탈퇴)에서만 {@link #invalidate(String)}로 제거
+ *       (로그인, 토큰 갱신, 이름/휴대폰 변경은 스냅샷 값이 바뀌지 않으므로 제거하지 않음)
+ *   <li>auth:principal-cache:events 채널로 subject를 발행하여 다른 노드의 캐시에서도 제거 (탈퇴한 사용자가 다른 노드에서 인증되지 않도록)
+ *   <li>메시지가 유실되어도 TTL이 지나면 다시 조회함
+ * </ul>
+ *
+ * <ul>
+ *   <li>app.security.principal-cache.max-size: 최대 보관 개수 (기본 10,000)
+ *   <li>app.security.principal-cache.ttl: 항목 유지 시간(초), 무효화 메시지 유실 시 반영 상한 (기본 300)
+ * </ul>
+ */
+@Component
+@Slf4j
+public class PrincipalCache implements MessageListener {
+
+  static final String CHANNEL = "auth:principal-cache:events";
+
+  private final Cache<String, PrincipalDetails> cache;
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  public PrincipalCache(
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      @Value("${app.security.principal-cache.max-size:10000}") long maxSize,
+      @Value("${app.security.principal-cache.ttl:300}") long ttlSeconds) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+  }
+
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  /**
+   * subject에 해당하는 Principal 스냅샷을 반환하며, 캐시에 없으면 loader로 로드 후 저장
+   *
+   * @param subject 토큰 subject (사용자 이메일)
+   * @param loader 캐시 미스 시 사용할 로더 (예외 발생 시 캐시에 저장되지 않음)
+   * @return 캐시되었거나 새로 로드된 Principal 스냅샷
+   */
+  public PrincipalDetails get(String subject, Function<String, PrincipalDetails> loader) {
+    return cache.get(subject, loader);
+  }
+
+  /**
+   * 캐시 항목 제거 (다른 노드에도 전파)
+   *
+   * <p>트랜잭션 안에서 호출되면 로컬 캐시는 즉시 제거하고, 전파는 커밋 이후 한 번만 수행함(커밋 후 로컬에서도 다시 제거하여 커밋 전 다른
+   * 요청이 이전 상태를 다시 캐시하는 경우를 방지). 롤백되면 전파하지 않음
+   *
+   * @param subject 토큰 subject (사용자 이메일)
+   */
+  public void invalidate(String subject) {
+    if (subject == null) {
+      return;
+    }
+    cache.invalidate(subject);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              cache.invalidate(subject);
+              publish(subject);
+            }
+          });
+    } else {
+      publish(subject);
+    }
+    log.debug("Principal 캐시 무효화: subject={}", subject);
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+  }
+
+  private void publish(String subject) {
+    try {
+      redisTemplate.convertAndSend(CHANNEL, subject);
+    } catch (Exception e) {
+      // 전파 실패 시 다른 노드는 TTL 만료 후 반영
+      log.warn("Principal 캐시 무효화 전파 실패: subject={}, error={}", subject, e.getMessage());
+    }
+  }
+}
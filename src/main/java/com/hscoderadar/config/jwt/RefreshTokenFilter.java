@@ -50,9 +50,11 @@ public class RefreshTokenFilter extends OncePerRequestFilter {
     // HttpOnly 쿠키에서 Refresh Token 추출
     String refreshToken = extractRefreshTokenFromCookie(request);
 
-    if (refreshToken != null && jwtTokenProvider.validateToken(refreshToken)) {
+    ValidatedToken validatedToken =
+        refreshToken != null ? jwtTokenProvider.validate(refreshToken) : null;
+    if (validatedToken != null) {
       try {
-        Authentication authentication = jwtTokenProvider.getAuthentication(refreshToken);
+        Authentication authentication = jwtTokenProvider.getAuthentication(validatedToken);
         SecurityContextHolder.getContext().setAuthentication(authentication);
         log.debug("Refresh Token 인증 성공: {}", authentication.getName());
       } catch (Exception e) {
@@ -0,0 +1,25 @@
+package com.hscoderadar.config.jwt;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명/만료/블랙리스트 검증을 마친 JWT
+ *
+ * <p>{@link JwtTokenProvider#validate(String)}에서 요청당 한 번만 파싱하여 생성되며, 이후 JTI 추출이나 인증 객체 생성 시 토큰을
+ * 다시 파싱하지 않고 이 객체의 클레임을 재사용함.
+ *
+ * @param token 원본 토큰 문자열
+ * @param claims 검증된 클레임
+ */
+public record ValidatedToken(String token, Claims claims) {
+
+  /** 토큰 subject (사용자 이메일) */
+  public String subject() {
+    return claims.getSubject();
+  }
+
+  /** 토큰 JTI, 없으면 null */
+  public String jti() {
+    return claims.get("jti", String.class);
+  }
+}
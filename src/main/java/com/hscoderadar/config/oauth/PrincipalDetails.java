@@ -37,11 +37,16 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
  * @GetMapping("/profile")
  * public ResponseEntity<?> getProfile(Authentication authentication) {
  *     PrincipalDetails principal = (PrincipalDetails) authentication.getPrincipal();
- *     User user = principal.getUser();
- *     return ResponseEntity.ok(user);
+ *     return ResponseEntity.ok(principal.getUserId());
  * }
  * }</pre>
  *
+ * <h3>JWT 인증 요청:</h3>
+ *
+ * <p>JWT로 인증된 요청의 Principal은 {@link #snapshot(Long, String)}으로 만든 불변 스냅샷(사용자 ID, 이메일)이며 엔티티를 담지
+ * 않음. 이 스냅샷은 로컬 캐시를 통해 여러 요청이 공유하므로, 사용자 정보가 필요한 서비스는 {@link #getUserId()}로 엔티티를 다시
+ * 조회해야 함. {@link #getUser()}는 로그인 처리 과정(일반/OAuth2)에서만 값이 있음
+ *
  * @author HsCodeRadar Team
  * @since 1.0.0
  * @see UserDetails
@@ -52,9 +57,15 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 @Data
 public class PrincipalDetails implements UserDetails, OAuth2User {
 
-  /** 애플리케이션 내부 사용자 엔티티 */
+  /** 애플리케이션 내부 사용자 엔티티 (로그인 처리 과정에서만 존재, JWT 인증 요청에서는 null) */
   private final User user;
 
+  /** 사용자 ID */
+  private final Long userId;
+
+  /** 사용자 이메일 (Spring Security 식별자) */
+  private final String email;
+
   /** OAuth2 제공업체에서 받은 원본 사용자 속성 (OAuth2 로그인 시에만 사용) */
   private final Map<String, Object> attributes;
 
@@ -66,8 +77,7 @@ public class PrincipalDetails implements UserDetails, OAuth2User {
    * @param user 인증된 사용자 엔티티
    */
   public PrincipalDetails(User user) {
-    this.user = user;
-    this.attributes = null;
+    this(user, null);
   }
 
   /**
@@ -80,9 +90,31 @@ public class PrincipalDetails implements UserDetails, OAuth2User {
    */
   public PrincipalDetails(User user, Map<String, Object> attributes) {
     this.user = user;
+    this.userId = user.getId();
+    this.email = user.getEmail();
     this.attributes = attributes;
   }
 
+  private PrincipalDetails(Long userId, String email) {
+    this.user = null;
+    this.userId = userId;
+    this.email = email;
+    this.attributes = null;
+  }
+
+  /**
+   * JWT 인증용 불변 Principal 스냅샷 생성
+   *
+   * <p>엔티티를 담지 않으므로 여러 요청이 공유해도 안전하며, 사용자 정보가 바뀌어도 스냅샷 자체는 변하지 않음
+   *
+   * @param userId 사용자 ID
+   * @param email 사용자 이메일
+   * @return 엔티티 없이 ID와 이메일만 가진 PrincipalDetails
+   */
+  public static PrincipalDetails snapshot(Long userId, String email) {
+    return new PrincipalDetails(userId, email);
+  }
+
   /**
    * 사용자 권한 목록 반환 (Spring Security UserDetails 구현)
    *
@@ -109,7 +141,8 @@ public class PrincipalDetails implements UserDetails, OAuth2User {
   public String getPassword() {
     // OAuth 사용자의 경우 비밀번호 해시가 null이므로 빈 문자열 반환
     // 이로 인해 일반 로그인 시도 시 인증이 실패함
-    return user.getPasswordHash() != null ? user.getPasswordHash() : "";
+    // JWT 인증 스냅샷은 비밀번호를 보관하지 않음
+    return user != null && user.getPasswordHash() != null ? user.getPasswordHash() : "";
   }
 
   /**
@@ -121,7 +154,7 @@ public class PrincipalDetails implements UserDetails, OAuth2User {
    */
   @Override
   public String getUsername() {
-    return user.getEmail();
+    return email;
   }
 
   /**
@@ -167,11 +200,11 @@ public class PrincipalDetails implements UserDetails, OAuth2User {
   /**
    * 사용자 이름 반환 (OAuth2User 구현)
    *
-   * @return 사용자 이름
+   * @return 사용자 이름 (JWT 인증 스냅샷은 이메일)
    */
   @Override
   public String getName() {
-    return user.getName();
+    return user != null ? user.getName() : email;
   }
 
   /**
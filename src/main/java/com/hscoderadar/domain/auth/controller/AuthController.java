@@ -106,6 +106,7 @@ public class AuthController {
       throw e;
     } catch (Exception e) {
       log.warn("로그인 실패: email={}, reason={}", request.email(), e.getMessage());
+      authService.recordLoginFailure(httpRequest.getRemoteAddr());
       throw AuthException.invalidCredentials();
     }
   }
@@ -118,7 +119,8 @@ public class AuthController {
       log.debug("인증 정보 없음");
       throw AuthException.invalidToken();
     }
-    User user = principalDetails.getUser();
+    // 인증 Principal은 ID와 이메일만 가진 스냅샷이므로 최신 사용자 정보를 다시 조회
+    User user = authService.findUserByEmail(principalDetails.getEmail());
     log.debug("인증 상태 확인: email={}", user.getEmail());
     return VerifyResponse.from(user);
   }
@@ -165,7 +167,7 @@ public class AuthController {
       @AuthenticationPrincipal PrincipalDetails principalDetails, HttpServletResponse response) {
 
     if (principalDetails != null) {
-      String userEmail = principalDetails.getUser().getEmail();
+      String userEmail = principalDetails.getEmail();
       log.info("로그아웃 요청: email={}", userEmail);
       authService.logout(userEmail);
       log.info("로그아웃 완료: email={}", userEmail);
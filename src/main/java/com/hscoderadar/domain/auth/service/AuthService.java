@@ -3,16 +3,17 @@ package com.hscoderadar.domain.auth.service;
 import com.hscoderadar.common.exception.AuthException;
 import com.hscoderadar.common.exception.ErrorCode;
 import com.hscoderadar.common.exception.RateLimitException;
+import com.hscoderadar.common.ratelimit.SlidingWindowRateLimiter;
 import com.hscoderadar.config.jwt.JwtTokenProvider;
+import com.hscoderadar.config.jwt.PrincipalCache;
 import com.hscoderadar.config.jwt.JwtTokenProvider.ProviderTokenRefreshResult;
 import com.hscoderadar.config.jwt.JwtTokenProvider.TokenInfo;
 import com.hscoderadar.domain.auth.dto.request.LoginRequest;
 import com.hscoderadar.domain.auth.dto.request.SignUpRequest;
 import com.hscoderadar.domain.user.entity.User;
 import com.hscoderadar.domain.user.repository.UserRepository;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -75,12 +76,16 @@ public class AuthService {
   private final SmsService smsService;
   private final EmailService emailService;
   private final StringRedisTemplate redisTemplate;
+  private final PrincipalCache principalCache;
+  private final SlidingWindowRateLimiter rateLimiter;
 
   private static final String EMAIL_VERIFICATION_CODE_PREFIX = "email:verification:";
   private static final long VERIFICATION_CODE_EXPIRATION_MINUTES = 5;
 
-  // Rate Limiting을 위한 메모리 기반 저장소 (실제 운영 환경에서는 Redis 사용 권장)
-  private final ConcurrentHashMap<String, AttemptRecord> loginAttempts = new ConcurrentHashMap<>();
+  // 로그인 실패 제한: 15분 내 5회 (Redis 슬라이딩 윈도우, 노드 간 공유)
+  private static final String LOGIN_RATE_LIMIT_PREFIX = "login:";
+  private static final int MAX_LOGIN_FAILURES = 5;
+  private static final Duration LOGIN_RATE_LIMIT_WINDOW = Duration.ofMinutes(15);
 
   /** 서비스 계층에서 컨트롤러로 전달할 토큰 갱신 결과 DTO */
   public record TokenRefreshResult(TokenInfo tokenInfo, boolean rememberMe) {
@@ -90,25 +95,6 @@ public class AuthService {
   public record LoginResult(TokenInfo tokenInfo, User user, boolean rememberMe) {
   }
 
-  /** 로그인 시도 기록을 위한 내부 클래스 */
-  private static class AttemptRecord {
-    private final AtomicInteger count = new AtomicInteger(0);
-    private LocalDateTime lastAttempt = LocalDateTime.now();
-
-    int getCount() {
-      return count.get();
-    }
-
-    LocalDateTime getLastAttempt() {
-      return lastAttempt;
-    }
-
-    void reset() {
-      count.set(0);
-      lastAttempt = LocalDateTime.now();
-    }
-  }
-
   /**
    * IP 기반 로그인 시도 제한 검사 (API 명세서 v2.4 기준)
    *
@@ -119,26 +105,22 @@ public class AuthService {
    * @throws RateLimitException 로그인 시도 한도 초과 시
    */
   public void checkLoginRateLimit(String clientIp) {
-    AttemptRecord record = loginAttempts.get(clientIp);
-
-    if (record != null) {
-      LocalDateTime now = LocalDateTime.now();
-      LocalDateTime window = now.minusMinutes(15); // 15분 윈도우
-
-      // 15분이 지나면 리셋
-      if (record.getLastAttempt().isBefore(window)) {
-        record.reset();
-        return;
-      }
-
-      // 5회 이상 실패 시 차단
-      if (record.getCount() >= 5) {
-        log.warn("로그인 시도 한도 초과: ip={}, attempts={}", clientIp, record.getCount());
-        throw RateLimitException.loginAttemptsExceeded();
-      }
+    if (!rateLimiter.isAllowed(
+        LOGIN_RATE_LIMIT_PREFIX + clientIp, MAX_LOGIN_FAILURES, LOGIN_RATE_LIMIT_WINDOW)) {
+      log.warn("로그인 시도 한도 초과: ip={}", clientIp);
+      throw RateLimitException.loginAttemptsExceeded();
     }
   }
 
+  /**
+   * 로그인 실패 기록 (IP 기반 Rate Limiting 집계용)
+   *
+   * @param clientIp 클라이언트 IP 주소
+   */
+  public void recordLoginFailure(String clientIp) {
+    rateLimiter.record(LOGIN_RATE_LIMIT_PREFIX + clientIp, LOGIN_RATE_LIMIT_WINDOW);
+  }
+
   /**
    * 새로운 사용자 계정 생성 (API 명세서 v2.4 기준)
    *
@@ -395,6 +377,7 @@ public class AuthService {
     // Refresh Token 무효화
     user.clearRefreshToken();
     userRepository.save(user);
+    principalCache.invalidate(user.getEmail());
 
     log.info("로그아웃 완료: userId={}, email={}", user.getId(), user.getEmail());
   }
@@ -526,6 +509,7 @@ public class AuthService {
     // 새 비밀번호 암호화 및 저장
     user.updatePasswordHash(passwordEncoder.encode(newPassword));
     userRepository.save(user);
+    principalCache.invalidate(user.getEmail());
 
     log.info("사용자 비밀번호가 재설정되었습니다. userId={}", user.getId());
   }
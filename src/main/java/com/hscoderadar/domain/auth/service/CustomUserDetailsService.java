@@ -24,4 +24,20 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     return new PrincipalDetails(user);
   }
+
+  /**
+   * JWT 인증용 불변 Principal 스냅샷 로드 (엔티티를 담지 않으므로 캐시에 보관해 여러 요청이 공유 가능)
+   *
+   * @param username 사용자 이메일
+   * @return 사용자 ID와 이메일만 가진 PrincipalDetails
+   * @throws UsernameNotFoundException 사용자가 없는 경우 (탈퇴 등)
+   */
+  public PrincipalDetails loadPrincipalSnapshot(String username) throws UsernameNotFoundException {
+    User user =
+        userRepository
+            .findByEmail(username)
+            .orElseThrow(() -> new UsernameNotFoundException("해당하는 유저를 찾을 수 없음"));
+
+    return PrincipalDetails.snapshot(user.getId(), user.getEmail());
+  }
 }
@@ -42,7 +42,7 @@ public class BookmarkController {
   public Page<BookmarkResponse> getUserBookmarks(
       @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails,
       Pageable pageable) {
-    Page<Bookmark> bookmarkPage = bookmarkService.getBookmarksByUser(principalDetails.getUser(), pageable);
+    Page<Bookmark> bookmarkPage = bookmarkService.getBookmarksByUser(principalDetails.getUserId(), pageable);
     List<BookmarkResponse> bookmarkResponses = bookmarkPage.getContent().stream().map(BookmarkResponse::from)
         .collect(Collectors.toList());
     return new PageImpl<>(bookmarkResponses, pageable, bookmarkPage.getTotalElements());
@@ -54,7 +54,7 @@ public class BookmarkController {
   public BookmarkResponse addBookmark(
       @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails,
       @RequestBody BookmarkCreateRequest request) {
-    return bookmarkService.createBookmark(principalDetails.getUser(), request);
+    return bookmarkService.createBookmark(principalDetails.getUserId(), request);
   }
 
   @Operation(summary = "북마크 수정", description = "기존 북마크의 일부 정보를 수정합니다.")
@@ -64,7 +64,7 @@ public class BookmarkController {
       @Parameter(description = "수정할 북마크 ID", required = true, in = ParameterIn.PATH) @PathVariable Long id,
       @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails,
       @RequestBody BookmarkUpdateRequest request) {
-    return bookmarkService.updateBookmark(id, principalDetails.getUser(), request);
+    return bookmarkService.updateBookmark(id, principalDetails.getUserId(), request);
   }
 
   @Operation(summary = "북마크 삭제", description = "선택한 북마크를 삭제합니다.")
@@ -73,7 +73,7 @@ public class BookmarkController {
   public void deleteBookmark(
       @Parameter(description = "삭제할 북마크 ID", required = true, in = ParameterIn.PATH) @PathVariable Long id,
       @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails) {
-    bookmarkService.deleteBookmark(id, principalDetails.getUser());
+    bookmarkService.deleteBookmark(id, principalDetails.getUserId());
   }
 
   @Operation(summary = "북마크 유형별 조회", description = "특정 유형(HSCODE, KEYWORD 등)의 북마크 목록만 조회합니다.")
@@ -82,7 +82,7 @@ public class BookmarkController {
   public List<BookmarkResponse> getBookmarksByType(
       @RequestParam("type") Bookmark.BookmarkType type,
       @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails) {
-    List<Bookmark> bookmarks = bookmarkService.getBookmarksByType(principalDetails.getUser(), type);
+    List<Bookmark> bookmarks = bookmarkService.getBookmarksByType(principalDetails.getUserId(), type);
     return bookmarks.stream().map(BookmarkResponse::from)
         .collect(Collectors.toList());
   }
@@ -7,6 +7,7 @@ import com.hscoderadar.domain.bookmark.dto.request.BookmarkUpdateRequest;
 import com.hscoderadar.domain.bookmark.entity.Bookmark;
 import com.hscoderadar.domain.bookmark.repository.BookmarkRepository;
 import com.hscoderadar.domain.user.entity.User;
+import com.hscoderadar.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 
@@ -25,10 +26,13 @@ public class BookmarkService {
 
   private final BookmarkRepository bookmarkRepository;
   private final ObjectMapper objectMapper;
+  private final UserRepository userRepository;
 
   @SneakyThrows // objectMapper.writeValueAsString()의 예외 처리를 위해 추가
   @Transactional
-  public BookmarkResponse createBookmark(User user, BookmarkCreateRequest request) {
+  public BookmarkResponse createBookmark(Long userId, BookmarkCreateRequest request) {
+    User user = userRepository.getReferenceById(userId);
+
     // 중복 북마크 확인
     bookmarkRepository.findByUserAndTargetValue(user, request.targetValue())
         .ifPresent(b -> {
@@ -54,19 +58,19 @@ public class BookmarkService {
     return BookmarkResponse.from(savedBookmark);
   }
 
-  public List<BookmarkResponse> getBookmarksByUser(User user) {
-    return bookmarkRepository.findByUserOrderByCreatedAtDesc(user).stream()
+  public List<BookmarkResponse> getBookmarksByUser(Long userId) {
+    return bookmarkRepository.findByUserOrderByCreatedAtDesc(userRepository.getReferenceById(userId)).stream()
         .map(BookmarkResponse::from)
         .collect(Collectors.toList());
   }
 
   @Transactional
-  public BookmarkResponse updateBookmark(Long bookmarkId, User user,
+  public BookmarkResponse updateBookmark(Long bookmarkId, Long userId,
       BookmarkUpdateRequest request) {
     Bookmark bookmark = bookmarkRepository.findById(bookmarkId)
         .orElseThrow(() -> new IllegalArgumentException("북마크를 찾을 수 없습니다."));
 
-    if (!bookmark.getUser().getId().equals(user.getId())) {
+    if (!bookmark.getUser().getId().equals(userId)) {
       throw new SecurityException("해당 북마크에 대한 권한이 없습니다.");
     }
 
@@ -81,11 +85,11 @@ public class BookmarkService {
   }
 
   @Transactional
-  public void deleteBookmark(Long bookmarkId, User user) {
+  public void deleteBookmark(Long bookmarkId, Long userId) {
     Bookmark bookmark = bookmarkRepository.findById(bookmarkId)
         .orElseThrow(() -> new IllegalArgumentException("북마크를 찾을 수 없습니다."));
 
-    if (!bookmark.getUser().getId().equals(user.getId())) {
+    if (!bookmark.getUser().getId().equals(userId)) {
       throw new SecurityException("해당 북마크에 대한 권한이 없습니다.");
     }
 
@@ -93,12 +97,12 @@ public class BookmarkService {
   }
 
   @Transactional(readOnly = true)
-  public Page<Bookmark> getBookmarksByUser(User user, Pageable pageable) {
-    return bookmarkRepository.findByUser(user, pageable);
+  public Page<Bookmark> getBookmarksByUser(Long userId, Pageable pageable) {
+    return bookmarkRepository.findByUser(userRepository.getReferenceById(userId), pageable);
   }
 
-  public List<Bookmark> getBookmarksByType(User user, Bookmark.BookmarkType type) {
-    return bookmarkRepository.findByUserAndType(user, type);
+  public List<Bookmark> getBookmarksByType(Long userId, Bookmark.BookmarkType type) {
+    return bookmarkRepository.findByUserAndType(userRepository.getReferenceById(userId), type);
   }
 
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -52,11 +53,15 @@ public class ChatController {
   })
   public Mono<Object> handleChat(
       @Valid @RequestBody ChatRequest request,
-      @AuthenticationPrincipal UserDetails userDetails) {
+      @AuthenticationPrincipal UserDetails userDetails,
+      HttpServletRequest httpRequest) {
 
     String userId = userDetails != null ? userDetails.getUsername() : null;
     log.info("채팅 요청 수신 - 사용자: {}, 메시지 길이: {}", userId, request.message().length());
 
+    // 회원/비회원별 시간당 요청 한도 확인
+    chatService.checkChatRateLimit(userId, httpRequest.getRemoteAddr());
+
     // 파이썬 서버로 요청을 프록시하고 응답을 그대로 전달
     return chatService.proxyToPythonServer(request, userId);
   }
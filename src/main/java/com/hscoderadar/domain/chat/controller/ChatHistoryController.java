@@ -32,7 +32,7 @@ public class ChatHistoryController {
   public Page<SessionResponse> getChatSessions(
       @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails,
       @Parameter(hidden = true) Pageable pageable) {
-    return chatHistoryService.getChatSessions(principalDetails.getUser(), pageable);
+    return chatHistoryService.getChatSessions(principalDetails.getUserId(), pageable);
   }
 
   @Operation(summary = "개별 채팅 세션 상세 조회", description = "특정 채팅 세션의 전체 대화 내용을 조회합니다.")
@@ -41,6 +41,6 @@ public class ChatHistoryController {
   public ChatHistoryDetailResponse getChatHistoryDetail(
       @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails,
       @PathVariable UUID sessionId) {
-    return chatHistoryService.getChatHistoryDetail(principalDetails.getUser(), sessionId);
+    return chatHistoryService.getChatHistoryDetail(principalDetails.getUserId(), sessionId);
   }
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ import com.hscoderadar.domain.chat.entity.ChatMessage;
 import com.hscoderadar.domain.chat.entity.ChatSession;
 import com.hscoderadar.domain.chat.repository.ChatMessageRepository;
 import com.hscoderadar.domain.chat.repository.ChatSessionRepository;
-import com.hscoderadar.domain.user.entity.User;
+import com.hscoderadar.domain.user.repository.UserRepository;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -22,18 +22,20 @@ public class ChatHistoryService {
 
     private final ChatSessionRepository chatSessionRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final UserRepository userRepository;
 
-    public Page<SessionResponse> getChatSessions(User user, Pageable pageable) {
-        Page<ChatSession> sessions = chatSessionRepository.findByUserOrderByCreatedAtDesc(user, pageable);
+    public Page<SessionResponse> getChatSessions(Long userId, Pageable pageable) {
+        Page<ChatSession> sessions = chatSessionRepository.findByUserOrderByCreatedAtDesc(
+                userRepository.getReferenceById(userId), pageable);
         return sessions.map(SessionResponse::from);
     }
 
-    public ChatHistoryDetailResponse getChatHistoryDetail(User user, UUID sessionId) {
+    public ChatHistoryDetailResponse getChatHistoryDetail(Long userId, UUID sessionId) {
         // 1. 세션 정보 조회 및 소유권 확인
         ChatSession session = chatSessionRepository.findBySessionUuid(sessionId)
                 .orElseThrow(() -> new IllegalArgumentException("채팅 세션을 찾을 수 없습니다."));
 
-        if (!session.getUser().getId().equals(user.getId())) {
+        if (!session.getUser().getId().equals(userId)) {
             throw new SecurityException("해당 채팅 기록에 접근할 권한이 없습니다.");
         }
 
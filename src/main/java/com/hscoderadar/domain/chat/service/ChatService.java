@@ -3,6 +3,7 @@ package com.hscoderadar.domain.chat.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hscoderadar.common.exception.ChatException;
 import com.hscoderadar.common.exception.ErrorCode;
+import com.hscoderadar.common.ratelimit.SlidingWindowRateLimiter;
 import com.hscoderadar.domain.chat.dto.request.ChatRequest;
 import com.hscoderadar.domain.chat.dto.request.PythonChatRequest;
 import com.hscoderadar.domain.chat.entity.ChatSession;
@@ -12,6 +13,7 @@ import com.hscoderadar.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -20,15 +22,19 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * AI 채팅 서비스
@@ -44,17 +50,67 @@ public class ChatService {
   private final ChatSessionRepository sessionRepository;
   private final UserRepository userRepository;
   private final ObjectMapper objectMapper;
+  private final SlidingWindowRateLimiter rateLimiter;
 
-  // 임시 세션 저장소 (비회원용)
-  private final Map<UUID, ChatSession> tempSessions = new ConcurrentHashMap<>();
+  // 비회원 세션 저장소 (Redis + 로컬 캐시, TTL 적용)
+  private final GuestChatSessionStore guestSessionStore;
+  private final ChatStreamMetrics chatStreamMetrics;
+
+  // 스트림당 업스트림에서 미리 받아둘 최대 이벤트 수 (초과 시 업스트림 읽기 중단)
+  @Value("${app.sse.buffer-size:256}")
+  private int relayBufferSize;
+
+  // 텍스트 토큰 이벤트 병합 (작은 SSE 프레임 전송 횟수 감소)
+  @Value("${app.chat.streaming.coalesce.enabled:false}")
+  private boolean coalesceEnabled;
+
+  @Value("${app.chat.streaming.coalesce.window-ms:30}")
+  private long coalesceWindowMs;
+
+  @Value("${app.chat.streaming.coalesce.max-bytes:1024}")
+  private int coalesceMaxBytes;
+
+  @Value("${app.chat.guest.max-requests-per-hour:20}")
+  private int guestMaxRequestsPerHour;
+
+  @Value("${app.chat.member.max-requests-per-hour:200}")
+  private int memberMaxRequestsPerHour;
+
+  /**
+   * 회원/비회원별 시간당 채팅 요청 한도 확인 (노드 간 공유되는 1시간 슬라이딩 윈도우)
+   * 회원은 이메일, 비회원은 클라이언트 IP 기준으로 집계
+   */
+  public void checkChatRateLimit(String userId, String clientIp) {
+    boolean allowed = userId != null
+        ? rateLimiter.tryAcquire("chat:member:" + userId, memberMaxRequestsPerHour, Duration.ofHours(1))
+        : rateLimiter.tryAcquire("chat:guest:" + clientIp, guestMaxRequestsPerHour, Duration.ofHours(1));
+
+    if (!allowed) {
+      log.warn("채팅 요청 한도 초과 - 사용자: {}, ip: {}", userId, clientIp);
+      throw ChatException.requestLimitExceeded();
+    }
+  }
 
   /**
    * 파이썬 서버로 요청을 프록시하고 응답을 그대로 전달
    * 파이썬 서버가 의도 분류 후 JSON 또는 SSE 응답을 결정
+   *
+   * <p>
+   * 세션/사용자 조회(JPA, Redis)는 블로킹 호출이므로 boundedElastic 스케줄러에서 실행하고,
+   * 이후 파이썬 서버 호출은 WebClient 이벤트 루프에서 논블로킹으로 처리함.
+   * 요청 스레드는 Mono를 반환한 즉시 해제됨.
    */
   public Mono<Object> proxyToPythonServer(ChatRequest request, String userId) {
+    return Mono.fromCallable(() -> createPythonRequest(request, userId))
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMap(pythonRequest -> sendToPythonServer(pythonRequest, userId));
+  }
+
+  /**
+   * 세션 존재 여부 확인 후 파이썬 서버용 요청 객체 생성 (블로킹 조회 포함)
+   */
+  private PythonChatRequest createPythonRequest(ChatRequest request, String userId) {
     Boolean sessionExists = checkSessionExist(request, userId);
-    UUID sessionUuid = null;
 
     if (!sessionExists) {
       throw new ChatException(ErrorCode.CHAT_006);
@@ -63,12 +119,19 @@ public class ChatService {
     Long actualUserId = getUserId(userId);
 
     // 파이썬 서버용 요청 객체 생성
-    PythonChatRequest pythonRequest = new PythonChatRequest(
+    return new PythonChatRequest(
         actualUserId,
         request.sessionUuid(),
         request.message());
+  }
+
+  /**
+   * 파이썬 서버 호출 및 응답 Content-Type에 따른 처리
+   */
+  private Mono<Object> sendToPythonServer(PythonChatRequest pythonRequest, String userId) {
+    UUID sessionUuid = null;
 
-    log.info("파이썬 서버로 프록시 요청 전송 - 세션: {}, 사용자: {}", sessionUuid, userId);
+    log.info("파이썬 서버로 프록시 요청 전송 - 세션: {}, 사용자: {}", pythonRequest.sessionUuid(), userId);
 
     return pythonAiWebClient.post()
         .uri("/api/v1/chat")
@@ -100,32 +163,93 @@ public class ChatService {
 
   /**
    * SSE 응답 처리 - SseEmitter 직접 반환
+   *
+   * <p>
+   * 클라이언트 전송(emitter.send)은 블로킹 I/O이므로 boundedElastic 스케줄러에서 수행하며,
+   * publishOn 버퍼(relayBufferSize)만큼만 업스트림에 요청하여 느린 클라이언트의 백프레셔가 파이썬 서버 연결까지 전달됨.
+   * 클라이언트 연결 끊김, 타임아웃, 전송 실패 시 업스트림 구독을 취소하여 파이썬 서버의 생성도 중단시킴.
+   * 토큰 병합이 활성화된 경우 연속된 텍스트 토큰 이벤트를 SseTokenCoalescer로 묶어서 전송함.
    */
   private Mono<Object> handleSseResponse(
       org.springframework.web.reactive.function.client.ClientResponse response,
       UUID sessionUuid, String userId) {
 
     SseEmitter emitter = new SseEmitter(300_000L);
-
-    // 연결 끊김 감지 콜백 설정
-    setupSseCallbacks(emitter, userId);
+    ChatStreamMetrics.StreamStats stream = chatStreamMetrics.start(userId);
+
+    Disposable.Swap upstream = Disposables.swap();
+    SseTokenCoalescer coalescer = coalesceEnabled
+        ? new SseTokenCoalescer(
+            objectMapper,
+            Duration.ofMillis(coalesceWindowMs),
+            coalesceMaxBytes,
+            frame -> sendSseEvent(emitter, frame, stream),
+            error -> {
+              // 시간 창 만료로 인한 전송 실패: 업스트림 구독 취소 후 종료
+              stream.cancelled("client_disconnect");
+              upstream.dispose();
+              completeSseEmitterWithError(emitter, Exceptions.unwrap(error));
+            })
+        : null;
 
     // 파이썬 서버의 SSE 스트림을 구독하여 클라이언트로 전달
-    response.bodyToFlux(String.class)
-        .doOnNext(eventData -> {
-          try {
-            emitter.send(SseEmitter.event().data(eventData));
-          } catch (IOException e) {
-            handleSseError(e, emitter);
+    upstream.update(response.bodyToFlux(String.class)
+        .publishOn(Schedulers.boundedElastic(), relayBufferSize)
+        .doFinally(signal -> {
+          if (coalescer != null) {
+            coalescer.close();
           }
         })
-        .doOnComplete(() -> completeSseEmitter(emitter))
-        .doOnError(error -> completeSseEmitterWithError(emitter, error))
-        .subscribe();
+        .subscribe(
+            eventData -> {
+              if (coalescer != null) {
+                coalescer.accept(eventData);
+              } else {
+                sendSseEvent(emitter, eventData, stream);
+              }
+            },
+            error -> {
+              if (isClientDisconnectionError(Exceptions.unwrap(error))) {
+                stream.cancelled("client_disconnect");
+              } else {
+                stream.failed();
+              }
+              completeSseEmitterWithError(emitter, Exceptions.unwrap(error));
+            },
+            () -> {
+              if (coalescer != null) {
+                try {
+                  coalescer.flush();
+                } catch (Exception e) {
+                  stream.cancelled("client_disconnect");
+                  completeSseEmitterWithError(emitter, Exceptions.unwrap(e));
+                  return;
+                }
+              }
+              stream.completed();
+              completeSseEmitter(emitter);
+            }));
+
+    // 연결 끊김 감지 콜백 설정 (종료 시 업스트림 구독 취소)
+    setupSseCallbacks(emitter, userId, upstream, stream);
 
     return Mono.just(emitter);
   }
 
+  /**
+   * 이벤트 한 건을 클라이언트로 전송
+   * 전송 실패 시 예외를 전파하여 업스트림 구독을 종료함
+   */
+  private void sendSseEvent(SseEmitter emitter, String eventData, ChatStreamMetrics.StreamStats stream) {
+    try {
+      emitter.send(SseEmitter.event().data(eventData));
+      stream.relayed(eventData.getBytes(StandardCharsets.UTF_8).length);
+    } catch (IOException e) {
+      handleSseError(e, emitter);
+      throw Exceptions.propagate(e);
+    }
+  }
+
   /**
    * JSON 응답 처리 - ResponseEntity 반환
    */
@@ -175,8 +299,8 @@ public class ChatService {
       // 회원은 DB에서 확인
       sessionExists = sessionRepository.findBySessionUuid(sessionUuid).isPresent();
     } else {
-      // 비회원은 임시 저장소에서 확인
-      sessionExists = tempSessions.containsKey(sessionUuid);
+      // 비회원은 세션 저장소에서 확인
+      sessionExists = guestSessionStore.exists(sessionUuid);
     }
 
     return sessionExists;
@@ -224,10 +348,10 @@ public class ChatService {
         log.info("회원용 세션 DB 저장 완료: {}", sessionUuid);
       } catch (ChatException e) {
         log.warn("회원 세션 생성 실패, 임시 세션으로 처리: {}", userId);
-        tempSessions.put(sessionUuid, newSession);
+        guestSessionStore.save(sessionUuid);
       }
     } else {
-      tempSessions.put(sessionUuid, newSession);
+      guestSessionStore.save(sessionUuid);
       log.info("비회원용 임시 세션 생성: {}", sessionUuid);
     }
     return newSession;
@@ -235,18 +359,31 @@ public class ChatService {
 
   /**
    * SSE Emitter 콜백 설정
+   * 어떤 경로로 종료되든 업스트림 구독을 취소함 (이미 종료된 경우 무시됨)
    */
-  private void setupSseCallbacks(SseEmitter emitter, String userId) {
-    emitter.onCompletion(() -> log.debug("SSE 연결 정상 완료 - 사용자: {}", userId));
+  private void setupSseCallbacks(SseEmitter emitter, String userId, Disposable upstream,
+      ChatStreamMetrics.StreamStats stream) {
+    emitter.onCompletion(() -> {
+      log.debug("SSE 연결 정상 완료 - 사용자: {}", userId);
+      stream.cancelled("client_disconnect");
+      upstream.dispose();
+    });
 
-    emitter.onTimeout(() -> log.debug("SSE 연결 타임아웃 - 사용자: {}", userId));
+    emitter.onTimeout(() -> {
+      log.debug("SSE 연결 타임아웃 - 사용자: {}", userId);
+      stream.cancelled("timeout");
+      upstream.dispose();
+    });
 
     emitter.onError(throwable -> {
       if (isClientDisconnectionError(throwable)) {
         log.debug("클라이언트 연결 끊김 - 사용자: {}", userId);
+        stream.cancelled("client_disconnect");
       } else {
         log.error("SSE 연결 중 예상치 못한 에러 - 사용자: {}", userId, throwable);
+        stream.cancelled("error");
       }
+      upstream.dispose();
     });
   }
 
@@ -0,0 +1,99 @@
+package com.hscoderadar.domain.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 SSE 중계 스트림 메트릭
+ *
+ * <p>스트림별로 중계한 바이트 수, 첫 토큰까지의 시간(TTFT), 종료 사유를 기록하며 /actuator/metrics에서 확인 가능
+ *
+ * <ul>
+ *   <li>chat.sse.relayed.bytes: 중계한 총 바이트 수
+ *   <li>chat.sse.stream.bytes: 스트림당 중계 바이트 분포
+ *   <li>chat.sse.time.to.first.token: 업스트림 응답 수신 후 첫 이벤트 전송까지의 시간
+ *   <li>chat.sse.streams (outcome=completed|cancelled|error, reason): 종료된 스트림 수
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ChatStreamMetrics {
+
+  private final MeterRegistry meterRegistry;
+  private final Counter relayedBytes;
+  private final DistributionSummary streamBytes;
+  private final Timer timeToFirstToken;
+
+  public ChatStreamMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.relayedBytes = Counter.builder("chat.sse.relayed.bytes").baseUnit("bytes").register(meterRegistry);
+    this.streamBytes =
+        DistributionSummary.builder("chat.sse.stream.bytes").baseUnit("bytes").register(meterRegistry);
+    this.timeToFirstToken = Timer.builder("chat.sse.time.to.first.token").register(meterRegistry);
+  }
+
+  /** 새 스트림 측정 시작 */
+  public StreamStats start(String userId) {
+    return new StreamStats(userId);
+  }
+
+  /** 스트림 하나의 측정 상태 (종료는 한 번만 기록됨) */
+  public class StreamStats {
+
+    private final String userId;
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicBoolean firstEventSent = new AtomicBoolean(false);
+    private final AtomicBoolean finished = new AtomicBoolean(false);
+
+    private StreamStats(String userId) {
+      this.userId = userId;
+    }
+
+    /** 이벤트 한 건 전송 기록 */
+    public void relayed(int eventBytes) {
+      if (firstEventSent.compareAndSet(false, true)) {
+        timeToFirstToken.record(Duration.ofNanos(System.nanoTime() - startNanos));
+      }
+      bytes.addAndGet(eventBytes);
+      relayedBytes.increment(eventBytes);
+    }
+
+    /** 업스트림 스트림 정상 종료 */
+    public void completed() {
+      finish("completed", "none");
+    }
+
+    /** 클라이언트 연결 끊김, 타임아웃 등으로 업스트림 구독 취소 */
+    public void cancelled(String reason) {
+      finish("cancelled", reason);
+    }
+
+    /** 업스트림 오류로 종료 */
+    public void failed() {
+      finish("error", "upstream");
+    }
+
+    private void finish(String outcome, String reason) {
+      if (!finished.compareAndSet(false, true)) {
+        return;
+      }
+      streamBytes.record(bytes.get());
+      meterRegistry.counter("chat.sse.streams", "outcome", outcome, "reason", reason).increment();
+      log.debug(
+          "SSE 스트림 종료 - 사용자: {}, 결과: {}, 사유: {}, 중계 바이트: {}, 소요: {}ms",
+          userId,
+          outcome,
+          reason,
+          bytes.get(),
+          Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.hscoderadar.domain.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비회원 채팅 세션 저장소
+ *
+ * <p>비회원 세션은 DB에 저장하지 않고 Redis(chat:guest_session:{uuid})에 TTL과 함께 저장하여 모든 노드에서 조회 가능하며 노드
+ * 장애 시에도 유지됨. 자주 조회되는 세션은 크기가 제한된 로컬 캐시에서 바로 확인함.
+ *
+ * <ul>
+ *   <li>Redis TTL: app.chat.session-timeout(초), Redis에서 조회될 때마다 연장
+ *   <li>로컬 캐시: 최대 app.chat.guest-session.local-cache-size개, app.chat.guest-session.local-ttl초 유지
+ * </ul>
+ */
+@Component
+@Slf4j
+public class GuestChatSessionStore {
+
+  private static final String KEY_PREFIX = "chat:guest_session:";
+
+  private final StringRedisTemplate redisTemplate;
+  private final Duration sessionTimeout;
+  private final Cache<UUID, Boolean> localCache;
+
+  public GuestChatSessionStore(
+      StringRedisTemplate redisTemplate,
+      @Value("${app.chat.session-timeout:1800}") long sessionTimeoutSeconds,
+      @Value("${app.chat.guest-session.local-cache-size:10000}") long localCacheSize,
+      @Value("${app.chat.guest-session.local-ttl:60}") long localTtlSeconds) {
+    this.redisTemplate = redisTemplate;
+    this.sessionTimeout = Duration.ofSeconds(sessionTimeoutSeconds);
+    this.localCache =
+        Caffeine.newBuilder()
+            .maximumSize(localCacheSize)
+            .expireAfterWrite(Duration.ofSeconds(Math.min(localTtlSeconds, sessionTimeoutSeconds)))
+            .build();
+  }
+
+  /**
+   * 비회원 세션 저장
+   *
+   * @param sessionUuid 세션 UUID
+   */
+  public void save(UUID sessionUuid) {
+    redisTemplate
+        .opsForValue()
+        .set(KEY_PREFIX + sessionUuid, String.valueOf(System.currentTimeMillis()), sessionTimeout);
+    localCache.put(sessionUuid, Boolean.TRUE);
+  }
+
+  /**
+   * 비회원 세션 존재 여부 확인 (Redis 조회 시 TTL 연장)
+   *
+   * @param sessionUuid 세션 UUID
+   * @return 세션이 존재하면 true
+   */
+  public boolean exists(UUID sessionUuid) {
+    if (localCache.getIfPresent(sessionUuid) != null) {
+      return true;
+    }
+
+    String createdAt =
+        redisTemplate.opsForValue().getAndExpire(KEY_PREFIX + sessionUuid, sessionTimeout);
+    if (createdAt == null) {
+      return false;
+    }
+
+    localCache.put(sessionUuid, Boolean.TRUE);
+    return true;
+  }
+}
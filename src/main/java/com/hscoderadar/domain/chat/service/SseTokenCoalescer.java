@@ -0,0 +1,161 @@
+package com.hscoderadar.domain.chat.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * SSE 토큰 프레임 병합기 (스트림당 1개)
+ *
+ * <p>파이썬 서버가 보내는 텍스트 토큰 이벤트(content_block_delta / text_delta, 즉 메인 메시지 토큰)를 짧은 시간 창 또는 바이트 한도
+ * 안에서 하나의 content_block_delta 프레임으로 합쳐 전송하여 작은 쓰기/flush 횟수를 줄임.
+ *
+ * <ul>
+ *   <li>연속된 같은 index의 text_delta만 병합하며, 순서는 그대로 유지됨
+ *   <li>그 외 이벤트(session_info, message_start, 상세 페이지 버튼 등 제어 이벤트)는 대기 중인 토큰을 먼저 내보낸 뒤 즉시 전달
+ *   <li>첫 토큰 수신 후 window가 지나거나 누적 크기가 maxBytes 이상이면 전송
+ * </ul>
+ */
+@Slf4j
+public class SseTokenCoalescer {
+
+  private final ObjectMapper objectMapper;
+  private final Duration window;
+  private final int maxBytes;
+  private final Consumer<String> send;
+  private final Consumer<Throwable> onAsyncSendError;
+
+  private ObjectNode pendingEvent;
+  private final StringBuilder pendingText = new StringBuilder();
+  private int pendingBytes;
+  private Disposable scheduledFlush;
+  private boolean closed;
+
+  /**
+   * @param objectMapper 이벤트 JSON 파싱용
+   * @param window 병합 대기 시간
+   * @param maxBytes 병합 프레임 최대 크기 (UTF-8 바이트)
+   * @param send 프레임 전송 함수 (실패 시 예외 발생)
+   * @param onAsyncSendError 시간 창 만료로 인한 비동기 전송이 실패했을 때 호출
+   */
+  public SseTokenCoalescer(
+      ObjectMapper objectMapper,
+      Duration window,
+      int maxBytes,
+      Consumer<String> send,
+      Consumer<Throwable> onAsyncSendError) {
+    this.objectMapper = objectMapper;
+    this.window = window;
+    this.maxBytes = maxBytes;
+    this.send = send;
+    this.onAsyncSendError = onAsyncSendError;
+  }
+
+  /**
+   * 업스트림 이벤트 한 건 처리 (전송 실패 시 예외를 그대로 전파)
+   *
+   * @param eventData SSE data 필드 (JSON 문자열)
+   */
+  public synchronized void accept(String eventData) {
+    ObjectNode tokenEvent = parseTextDelta(eventData);
+    if (tokenEvent == null) {
+      // 제어 이벤트: 대기 중인 토큰을 먼저 보내고 즉시 전달
+      flush();
+      send.accept(eventData);
+      return;
+    }
+
+    if (pendingEvent != null && !pendingEvent.path("index").equals(tokenEvent.path("index"))) {
+      flush();
+    }
+
+    String text = tokenEvent.path("delta").path("text").asText("");
+    if (pendingEvent == null) {
+      pendingEvent = tokenEvent;
+      scheduleFlush();
+    }
+    pendingText.append(text);
+    pendingBytes += text.getBytes(StandardCharsets.UTF_8).length;
+
+    if (pendingBytes >= maxBytes) {
+      flush();
+    }
+  }
+
+  /** 대기 중인 토큰을 하나의 프레임으로 전송 */
+  public synchronized void flush() {
+    cancelScheduledFlush();
+    if (pendingEvent == null) {
+      return;
+    }
+
+    ((ObjectNode) pendingEvent.path("delta")).put("text", pendingText.toString());
+    String frame = pendingEvent.toString();
+
+    pendingEvent = null;
+    pendingText.setLength(0);
+    pendingBytes = 0;
+
+    send.accept(frame);
+  }
+
+  /** 스트림 종료 시 예약된 전송을 취소하고 대기 중인 토큰을 버림 */
+  public synchronized void close() {
+    closed = true;
+    cancelScheduledFlush();
+    pendingEvent = null;
+    pendingText.setLength(0);
+    pendingBytes = 0;
+  }
+
+  private void scheduleFlush() {
+    scheduledFlush =
+        Schedulers.boundedElastic()
+            .schedule(this::flushOnWindowExpired, window.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private synchronized void flushOnWindowExpired() {
+    if (closed) {
+      return;
+    }
+    try {
+      flush();
+    } catch (Exception e) {
+      onAsyncSendError.accept(e);
+    }
+  }
+
+  private void cancelScheduledFlush() {
+    if (scheduledFlush != null) {
+      scheduledFlush.dispose();
+      scheduledFlush = null;
+    }
+  }
+
+  /** text_delta 이벤트면 파싱된 JSON을, 아니면 null을 반환 */
+  private ObjectNode parseTextDelta(String eventData) {
+    // 대부분의 제어 이벤트는 파싱 없이 걸러냄
+    if (!eventData.contains("text_delta")) {
+      return null;
+    }
+    try {
+      JsonNode node = objectMapper.readTree(eventData);
+      if (node instanceof ObjectNode objectNode
+          && "content_block_delta".equals(node.path("type").asText())
+          && node.path("delta") instanceof ObjectNode
+          && "text_delta".equals(node.path("delta").path("type").asText())) {
+        return objectNode;
+      }
+    } catch (Exception e) {
+      log.debug("SSE 이벤트 파싱 실패, 그대로 전달: {}", e.getMessage());
+    }
+    return null;
+  }
+}
@@ -0,0 +1,184 @@
+package com.hscoderadar.domain.customs.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hscoderadar.domain.customs.dto.CargoClearanceProgressResponse;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 화물 통관 진행 정보 캐시
+ *
+ * <p>화물관리번호 기준으로 관세청 조회 결과를 Redis(customs:cargo:{cargMtNo})에 저장하여 모든 노드가 공유하고, 자주 조회되는 번호는
+ * 크기가 제한된 로컬 캐시에서 바로 응답함. 반출까지 끝난 화물은 더 이상 상태가 바뀌지 않으므로 오래 보관하고, 진행 중인 화물은 짧게 보관함.
+ *
+ * <ul>
+ *   <li>종료 상태: 진행상태(prgsStts)나 통관진행상태(csclPrgsStts)에 terminal-statuses 중 하나가 포함되거나, 가장 최근 처리
+ *       이력의 처리구분이 terminal-process-types 중 하나이면 terminal-ttl
+ *   <li>신고수리: 통관진행상태에 accepted-statuses 중 하나가 포함되면 accepted-ttl (수리 이후에도 반출신고, 반출 이력이 추가되므로
+ *       종료 상태로 보지 않음)
+ *   <li>그 밖의 진행 중인 화물은 in-transit-ttl
+ *   <li>조회 결과가 없는 번호는 not-found-ttl 동안 보관 (잘못된 번호의 반복 조회 방지)
+ *   <li>로컬 캐시는 위 TTL과 local-max-ttl 중 짧은 기간만 유지 (다른 노드의 갱신 반영 상한)
+ * </ul>
+ *
+ * <p>Redis 오류는 캐시 미스로 처리하여 관세청 API 직접 조회로 이어지도록 함
+ */
+@Component
+@Slf4j
+public class CargoClearanceCache {
+
+  private static final String KEY_PREFIX = "customs:cargo:";
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final Duration inTransitTtl;
+  private final Duration acceptedTtl;
+  private final Duration terminalTtl;
+  private final Duration notFoundTtl;
+  private final List<String> acceptedStatuses;
+  private final List<String> terminalStatuses;
+  private final List<String> terminalProcessTypes;
+  private final Cache<String, CargoClearanceProgressResponse> localCache;
+
+  public CargoClearanceCache(
+      StringRedisTemplate redisTemplate,
+      ObjectMapper objectMapper,
+      @Value("${app.customs.cargo-cache.in-transit-ttl:PT5M}") Duration inTransitTtl,
+      @Value("${app.customs.cargo-cache.accepted-ttl:PT1H}") Duration acceptedTtl,
+      @Value("${app.customs.cargo-cache.terminal-ttl:P30D}") Duration terminalTtl,
+      @Value("${app.customs.cargo-cache.not-found-ttl:PT1M}") Duration notFoundTtl,
+      @Value("${app.customs.cargo-cache.accepted-statuses:수입신고수리,수출신고수리}") List<String> acceptedStatuses,
+      @Value("${app.customs.cargo-cache.terminal-statuses:반출완료}") List<String> terminalStatuses,
+      @Value("${app.customs.cargo-cache.terminal-process-types:반출신고}") List<String> terminalProcessTypes,
+      @Value("${app.customs.cargo-cache.local-max-size:10000}") long localMaxSize,
+      @Value("${app.customs.cargo-cache.local-max-ttl:PT1M}") Duration localMaxTtl) {
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.inTransitTtl = inTransitTtl;
+    this.acceptedTtl = acceptedTtl;
+    this.terminalTtl = terminalTtl;
+    this.notFoundTtl = notFoundTtl;
+    this.acceptedStatuses = List.copyOf(acceptedStatuses);
+    this.terminalStatuses = List.copyOf(terminalStatuses);
+    this.terminalProcessTypes = List.copyOf(terminalProcessTypes);
+    this.localCache =
+        Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfter(
+                Expiry.writing(
+                    (String key, CargoClearanceProgressResponse response) -> {
+                      Duration ttl = ttlOf(response);
+                      return ttl.compareTo(localMaxTtl) < 0 ? ttl : localMaxTtl;
+                    }))
+            .build();
+  }
+
+  /**
+   * 로컬 캐시 조회
+   *
+   * @param cargoManagementNumber 화물관리번호
+   * @return 캐시된 조회 결과 (없으면 null)
+   */
+  CargoClearanceProgressResponse getLocal(String cargoManagementNumber) {
+    return localCache.getIfPresent(cargoManagementNumber);
+  }
+
+  /**
+   * Redis 조회 (찾으면 로컬 캐시에도 저장)
+   *
+   * @param cargoManagementNumber 화물관리번호
+   * @return 캐시된 조회 결과 (없거나 Redis 오류 시 empty)
+   */
+  Mono<CargoClearanceProgressResponse> getShared(String cargoManagementNumber) {
+    return Mono.fromCallable(() -> redisTemplate.opsForValue().get(KEY_PREFIX + cargoManagementNumber))
+        .subscribeOn(Schedulers.boundedElastic())
+        .map(this::read)
+        .doOnNext(response -> localCache.put(cargoManagementNumber, response))
+        .onErrorResume(error -> {
+          log.warn("화물 통관 캐시 조회 실패: 화물번호={}, 오류={}", cargoManagementNumber, error.getMessage());
+          return Mono.empty();
+        });
+  }
+
+  /**
+   * 조회 결과를 로컬 캐시와 Redis에 저장 (상태별 TTL 적용)
+   *
+   * @param cargoManagementNumber 화물관리번호
+   * @param response              관세청 조회 결과
+   */
+  Mono<Void> put(String cargoManagementNumber, CargoClearanceProgressResponse response) {
+    localCache.put(cargoManagementNumber, response);
+    return Mono.fromRunnable(() -> redisTemplate.opsForValue()
+            .set(KEY_PREFIX + cargoManagementNumber, write(response), ttlOf(response)))
+        .subscribeOn(Schedulers.boundedElastic())
+        .onErrorResume(error -> {
+          log.warn("화물 통관 캐시 저장 실패: 화물번호={}, 오류={}", cargoManagementNumber, error.getMessage());
+          return Mono.empty();
+        })
+        .then();
+  }
+
+  /** 통관 진행 상태별 보관 기간 */
+  Duration ttlOf(CargoClearanceProgressResponse response) {
+    CargoClearanceProgressResponse.CargoProgressInfo baseInfo = response.getBaseInfo();
+    if (baseInfo == null) {
+      return notFoundTtl;
+    }
+    if (containsAny(baseInfo.getProgressStatus(), terminalStatuses)
+        || containsAny(baseInfo.getClearanceProgressStatus(), terminalStatuses)
+        || isTerminalProcess(response.getDetailList())) {
+      return terminalTtl;
+    }
+    if (containsAny(baseInfo.getClearanceProgressStatus(), acceptedStatuses)) {
+      return acceptedTtl;
+    }
+    return inTransitTtl;
+  }
+
+  /** 가장 최근 처리 이력(처리일시 기준)의 처리구분이 종료 처리인지 여부 */
+  private boolean isTerminalProcess(List<CargoClearanceProgressResponse.CargoProgressDetail> details) {
+    if (details == null || details.isEmpty()) {
+      return false;
+    }
+    return details.stream()
+        .filter(detail -> detail.getProcessDateTime() != null)
+        .max(Comparator.comparing(CargoClearanceProgressResponse.CargoProgressDetail::getProcessDateTime))
+        .map(CargoClearanceProgressResponse.CargoProgressDetail::getProcessType)
+        .filter(Objects::nonNull)
+        .map(String::strip)
+        .filter(terminalProcessTypes::contains)
+        .isPresent();
+  }
+
+  private static boolean containsAny(String status, List<String> candidates) {
+    return status != null && candidates.stream().anyMatch(status::contains);
+  }
+
+  private CargoClearanceProgressResponse read(String json) {
+    try {
+      return objectMapper.readValue(json, CargoClearanceProgressResponse.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("화물 통관 정보 역직렬화 실패", e);
+    }
+  }
+
+  private String write(CargoClearanceProgressResponse response) {
+    try {
+      return objectMapper.writeValueAsString(response);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("화물 통관 정보 직렬화 실패", e);
+    }
+  }
+}
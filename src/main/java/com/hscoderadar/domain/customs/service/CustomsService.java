@@ -9,7 +9,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +20,10 @@ import java.net.URI;
 public class CustomsService {
 
   private final WebClient webClient;
+  private final CargoClearanceCache cargoClearanceCache;
+
+  /** 화물관리번호별 진행 중인 조회 (동시 요청 합류용) */
+  private final ConcurrentMap<String, Mono<CargoClearanceProgressResponse>> inFlightLookups = new ConcurrentHashMap<>();
 
   @Value("${customs.api.key2}")
   private String apiKey;
@@ -25,6 +32,7 @@ public class CustomsService {
 
   /**
    * 화물관리번호로 통관 진행 정보를 조회
+   * 로컬 캐시, Redis 순으로 확인하고 없을 때만 관세청 API를 호출하며, 같은 화물관리번호의 동시 요청은 하나의 조회에 합류함
    * 
    * @param cargoManagementNumber 조회할 화물관리번호
    * @return 통관 진행 정보 Mono 객체
@@ -33,7 +41,39 @@ public class CustomsService {
     if (cargoManagementNumber == null || cargoManagementNumber.isBlank()) {
       return Mono.error(new IllegalArgumentException("화물관리번호는 필수입니다."));
     }
+    String key = cargoManagementNumber.trim().toUpperCase();
+
+    return Mono.defer(() -> {
+      CargoClearanceProgressResponse cached = cargoClearanceCache.getLocal(key);
+      return cached != null ? Mono.just(cached) : joinOrLoad(key);
+    });
+  }
 
+  /**
+   * 진행 중인 조회가 있으면 그 결과를 기다리고, 없으면 새 조회를 시작 (single-flight)
+   * 조회는 요청 구독과 분리되어 실행되므로 한 요청이 취소되어도 다른 대기자에게 영향이 없음
+   */
+  private Mono<CargoClearanceProgressResponse> joinOrLoad(String cargoManagementNumber) {
+    Sinks.One<CargoClearanceProgressResponse> result = Sinks.one();
+    Mono<CargoClearanceProgressResponse> shared = result.asMono();
+    Mono<CargoClearanceProgressResponse> existing = inFlightLookups.putIfAbsent(cargoManagementNumber, shared);
+    if (existing != null) {
+      log.debug("진행 중인 화물 통관 조회에 합류합니다: 화물번호={}", cargoManagementNumber);
+      return existing;
+    }
+
+    cargoClearanceCache.getShared(cargoManagementNumber)
+        .switchIfEmpty(Mono.defer(() -> fetchFromCustomsApi(cargoManagementNumber)
+            .flatMap(response -> cargoClearanceCache.put(cargoManagementNumber, response).thenReturn(response))))
+        .doFinally(signal -> inFlightLookups.remove(cargoManagementNumber, shared))
+        .subscribe(result::tryEmitValue, result::tryEmitError, result::tryEmitEmpty);
+    return shared;
+  }
+
+  /**
+   * 관세청 화물통관진행정보 API 호출
+   */
+  private Mono<CargoClearanceProgressResponse> fetchFromCustomsApi(String cargoManagementNumber) {
     URI uri = UriComponentsBuilder.fromPath(API_URL)
         .queryParam("crkyCn", apiKey)
         .queryParam("cargMtNo", cargoManagementNumber)
@@ -49,7 +89,7 @@ public class CustomsService {
         .bodyToMono(CargoClearanceProgressResponse.class)
         .doOnSuccess(response -> log.info("API 응답 성공: 화물번호={}, 진행상태={}",
             cargoManagementNumber,
-            response.getBaseInfo() != null
+            response != null && response.getBaseInfo() != null
                 ? response.getBaseInfo().getClearanceProgressStatus()
                 : "N/A"))
         .doOnError(error -> log.error("API 호출 실패: 화물번호={}, 오류={}",
@@ -38,7 +38,7 @@ public class DashboardController {
   @ApiResponseMessage("대시보드 요약 정보가 성공적으로 조회되었습니다.")
   public DashboardSummaryResponse getDashboardSummary(
       @AuthenticationPrincipal PrincipalDetails principalDetails) {
-    return dashboardService.getDashboardSummary(principalDetails.getUser());
+    return dashboardService.getDashboardSummary(principalDetails.getUserId());
   }
 
   @GetMapping("/feeds")
@@ -46,7 +46,7 @@ public class DashboardController {
   public Page<FeedResponse> getFeeds(
       @AuthenticationPrincipal PrincipalDetails principalDetails,
       @Parameter(hidden = true) Pageable pageable) {
-    return feedService.getFeeds(principalDetails.getUser(), pageable);
+    return feedService.getFeeds(principalDetails.getUserId(), pageable);
   }
 
   @PutMapping("/feeds/{feedId}/read")
@@ -54,7 +54,7 @@ public class DashboardController {
   public ResponseEntity<Void> markFeedAsRead(
       @AuthenticationPrincipal PrincipalDetails principalDetails,
       @PathVariable Long feedId) {
-    feedService.markFeedAsRead(principalDetails.getUser(), feedId);
+    feedService.markFeedAsRead(principalDetails.getUserId(), feedId);
     return ResponseEntity.ok().build();
   }
 
@@ -66,7 +66,7 @@ public class DashboardController {
   @PutMapping("/feeds/read-all")
   public ResponseEntity<ApiResponse<ProcessedCountResponse>> markAllFeedsAsRead(
       @AuthenticationPrincipal PrincipalDetails principalDetails) {
-    int count = feedService.markAllFeedsAsRead(principalDetails.getUser());
+    int count = feedService.markAllFeedsAsRead(principalDetails.getUserId());
     ProcessedCountResponse responseData = new ProcessedCountResponse(count);
 
     ApiResponse<ProcessedCountResponse> apiResponse = ApiResponse.success("모든 피드를 읽음 처리했습니다.", responseData);
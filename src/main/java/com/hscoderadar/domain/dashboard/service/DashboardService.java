@@ -2,7 +2,6 @@ package com.hscoderadar.domain.dashboard.service;
 
 import com.hscoderadar.domain.dashboard.dto.response.DashboardSummaryResponse;
 import com.hscoderadar.domain.dashboard.repository.DashboardRepository;
-import com.hscoderadar.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,9 +13,9 @@ public class DashboardService {
 
   private final DashboardRepository dashboardRepository;
 
-  public DashboardSummaryResponse getDashboardSummary(User user) {
-    return dashboardRepository.findByUserId(user.getId())
+  public DashboardSummaryResponse getDashboardSummary(Long userId) {
+    return dashboardRepository.findByUserId(userId)
         .map(DashboardSummaryResponse::from)
-        .orElseThrow(() -> new IllegalArgumentException("사용자 대시보드 정보를 찾을 수 없습니다. user_id: " + user.getId()));
+        .orElseThrow(() -> new IllegalArgumentException("사용자 대시보드 정보를 찾을 수 없습니다. user_id: " + userId));
   }
 }
\ No newline at end of file
@@ -1,12 +1,15 @@
 package com.hscoderadar.domain.exchange.controller;
 
 import com.hscoderadar.common.response.ApiResponseMessage;
+import com.hscoderadar.domain.exchange.dto.response.ExchangeRateHistoryResponse;
 import com.hscoderadar.domain.exchange.dto.response.ExchangeRateResponse;
+import com.hscoderadar.domain.exchange.service.ExchangeRateHistoryService;
 import com.hscoderadar.domain.exchange.service.ExchangeRateService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Mono;
 
@@ -18,6 +21,7 @@ import java.util.List;
 public class ExchangeRateController {
 
   private final ExchangeRateService exchangeRateService;
+  private final ExchangeRateHistoryService exchangeRateHistoryService;
 
   @GetMapping
   @ApiResponseMessage("환율 정보가 조회되었습니다.")
@@ -36,4 +40,19 @@ public class ExchangeRateController {
   public Mono<List<ExchangeRateResponse>> getExchangeRateByCurrency(@PathVariable String currencyCode) {
     return exchangeRateService.getExchangeRateByCurrency(currencyCode);
   }
-}
\ No newline at end of file
+
+  /**
+   * 특정 국가(통화 코드)의 일별 환율 이력 조회 엔드포인트
+   *
+   * @param currencyCode 통화 코드 (예: USD, JPY)
+   * @param days         조회 기간(일, 기본 30일)
+   * @return 수출입 구분별 일별 환율과 변동률
+   */
+  @GetMapping("/{currencyCode}/history")
+  @ApiResponseMessage("환율 이력이 조회되었습니다.")
+  public List<ExchangeRateHistoryResponse> getExchangeRateHistory(
+      @PathVariable String currencyCode,
+      @RequestParam(defaultValue = "30") int days) {
+    return exchangeRateHistoryService.getHistory(currencyCode, days);
+  }
+}
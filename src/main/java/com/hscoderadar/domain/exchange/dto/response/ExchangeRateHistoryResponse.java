@@ -0,0 +1,23 @@
+package com.hscoderadar.domain.exchange.dto.response;
+
+import com.hscoderadar.domain.exchange.entity.ExchangeRateHistory;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "환율 일별 이력 응답 DTO (통화, 수출입 구분별 시계열)")
+public record ExchangeRateHistoryResponse(
+    String currencyCode,
+    String currencyName,
+    ExchangeRateHistory.RateType rateType,
+    List<Point> points) {
+
+  @Schema(description = "일별 환율 (changeRate: 직전 이력 대비 변동률(%))")
+  public record Point(LocalDate date, BigDecimal exchangeRate, BigDecimal changeRate) {
+
+    public static Point from(ExchangeRateHistory history) {
+      return new Point(history.getRateDate(), history.getExchangeRate(), history.getChangeRate());
+    }
+  }
+}
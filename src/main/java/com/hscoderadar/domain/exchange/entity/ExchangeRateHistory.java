@@ -0,0 +1,81 @@
+package com.hscoderadar.domain.exchange.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 환율 이력 (통화, 수출입 구분, 날짜별 1건)
+ *
+ * <p>exchange_rates_cache의 원본 행을 하루 단위로 집계한 결과로, 그날 마지막으로 조회된 환율과 직전 이력 대비 변동률을 보관함.
+ * 원본 행은 보존 기간이 지나면 삭제되고 이력만 남음.
+ */
+@Entity
+@Table(
+    name = "exchange_rate_history",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"currency_code", "rate_type", "rate_date"}),
+    indexes = @Index(name = "idx_exchange_rate_history_rate_date", columnList = "rate_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExchangeRateHistory {
+
+    /** 수출입 구분 (exchange_rates_cache의 currencyName 접미사 "(수출)", "(수입)"으로 판별) */
+    public enum RateType {
+        IMPORT, EXPORT;
+
+        public static RateType of(String currencyName) {
+            return currencyName != null && currencyName.endsWith("(수출)") ? EXPORT : IMPORT;
+        }
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "currency_code", nullable = false, length = 10)
+    private String currencyCode;
+
+    @Column(name = "currency_name", nullable = false, length = 50)
+    private String currencyName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rate_type", nullable = false, length = 10)
+    private RateType rateType;
+
+    @Column(name = "rate_date", nullable = false)
+    private LocalDate rateDate;
+
+    @Column(name = "exchange_rate", nullable = false, precision = 15, scale = 4)
+    private BigDecimal exchangeRate;
+
+    @Column(name = "change_rate", precision = 10, scale = 4)
+    private BigDecimal changeRate; // 직전 이력 대비 변동률(%), 직전 이력이 없으면 null
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+
+    @Builder
+    public ExchangeRateHistory(String currencyCode, String currencyName, RateType rateType, LocalDate rateDate,
+            BigDecimal exchangeRate, BigDecimal changeRate, LocalDateTime fetchedAt) {
+        this.currencyCode = currencyCode;
+        this.currencyName = currencyName;
+        this.rateType = rateType;
+        this.rateDate = rateDate;
+        this.exchangeRate = exchangeRate;
+        this.changeRate = changeRate;
+        this.fetchedAt = fetchedAt;
+    }
+
+    /** 같은 날 더 최근에 조회된 환율로 갱신 */
+    public void update(String currencyName, BigDecimal exchangeRate, BigDecimal changeRate, LocalDateTime fetchedAt) {
+        this.currencyName = currencyName;
+        this.exchangeRate = exchangeRate;
+        this.changeRate = changeRate;
+        this.fetchedAt = fetchedAt;
+    }
+}
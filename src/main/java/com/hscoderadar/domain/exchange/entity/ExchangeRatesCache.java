@@ -12,7 +12,12 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
-@Table(name = "exchange_rates_cache")
+@Table(
+    name = "exchange_rates_cache",
+    indexes = {
+        @Index(name = "idx_exchange_rates_cache_active_expires", columnList = "is_active, expires_at"),
+        @Index(name = "idx_exchange_rates_cache_fetched_at", columnList = "fetched_at")
+    })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -0,0 +1,42 @@
+package com.hscoderadar.domain.exchange.repository;
+
+import com.hscoderadar.domain.exchange.entity.ExchangeRateHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 환율 이력 Repository
+ */
+@Repository
+public interface ExchangeRateHistoryRepository extends JpaRepository<ExchangeRateHistory, Long> {
+
+    /** 특정 날짜의 이력 전체 */
+    List<ExchangeRateHistory> findAllByRateDate(LocalDate rateDate);
+
+    /**
+     * 특정 날짜 이전의 통화, 구분별 가장 최근 이력 (변동률 계산 기준)
+     */
+    @Query("SELECT h FROM ExchangeRateHistory h " +
+        "WHERE h.rateDate = (" +
+        "    SELECT MAX(sub.rateDate) FROM ExchangeRateHistory sub " +
+        "    WHERE sub.currencyCode = h.currencyCode AND sub.rateType = h.rateType AND sub.rateDate < :date" +
+        ")")
+    List<ExchangeRateHistory> findLatestBefore(@Param("date") LocalDate date);
+
+    /** 통화의 기간 내 이력 (구분, 날짜 순) */
+    List<ExchangeRateHistory> findAllByCurrencyCodeAndRateDateGreaterThanEqualOrderByRateTypeAscRateDateAsc(
+        String currencyCode,
+        LocalDate from
+    );
+
+    /** 보존 기간이 지난 이력 삭제 */
+    @Modifying
+    @Query("DELETE FROM ExchangeRateHistory h WHERE h.rateDate < :cutoff")
+    int deleteByRateDateBefore(@Param("cutoff") LocalDate cutoff);
+}
@@ -2,7 +2,9 @@ package com.hscoderadar.domain.exchange.repository;
 
 import com.hscoderadar.domain.exchange.entity.ExchangeRatesCache;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -37,4 +39,31 @@ public interface ExchangeRatesCacheRepository extends JpaRepository<ExchangeRate
         String currencyCode,
         LocalDateTime now
     );
-}
\ No newline at end of file
+
+    /**
+     * 기간 내 통화, 구분별로 마지막에 저장된 환율 (일별 이력 집계용)
+     */
+    @Query("SELECT e FROM ExchangeRatesCache e " +
+        "WHERE e.id IN (" +
+        "    SELECT MAX(sub.id) FROM ExchangeRatesCache sub " +
+        "    WHERE sub.fetchedAt >= :from AND sub.fetchedAt < :to " +
+        "    GROUP BY sub.currencyCode, sub.currencyName" +
+        ")")
+    List<ExchangeRatesCache> findLatestFetchedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /** 가장 오래된 원본 행의 조회 시각 (행이 없으면 null) */
+    @Query("SELECT MIN(e.fetchedAt) FROM ExchangeRatesCache e")
+    LocalDateTime findOldestFetchedAt();
+
+    /**
+     * 새로 저장된 환율보다 이전에 조회된 활성 행을 비활성화 (최신 환율 조회 대상에서 제외)
+     */
+    @Modifying
+    @Query("UPDATE ExchangeRatesCache e SET e.isActive = false WHERE e.isActive = true AND e.fetchedAt < :fetchedAt")
+    int deactivateFetchedBefore(@Param("fetchedAt") LocalDateTime fetchedAt);
+
+    /** 보존 기간이 지난 원본 행 삭제 */
+    @Modifying
+    @Query("DELETE FROM ExchangeRatesCache e WHERE e.fetchedAt < :cutoff")
+    int deleteByFetchedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,183 @@
+package com.hscoderadar.domain.exchange.service;
+
+import com.hscoderadar.domain.exchange.dto.response.ExchangeRateHistoryResponse;
+import com.hscoderadar.domain.exchange.entity.ExchangeRateHistory;
+import com.hscoderadar.domain.exchange.entity.ExchangeRateHistory.RateType;
+import com.hscoderadar.domain.exchange.entity.ExchangeRatesCache;
+import com.hscoderadar.domain.exchange.repository.ExchangeRateHistoryRepository;
+import com.hscoderadar.domain.exchange.repository.ExchangeRatesCacheRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 환율 이력 집계 및 보존 관리
+ *
+ * <p>
+ * 갱신마다 전체 환율을 새로 쌓는 exchange_rates_cache(원본)를 통화, 수출입 구분, 날짜별 1건의 exchange_rate_history로 집계하고,
+ * 원본은 보존 기간이 지나면 삭제하여 테이블과 최신 환율 조회 비용이 일정하게 유지되도록 함.
+ * <ul>
+ * <li>갱신 직후: 이전 활성 원본 행 비활성화 + 오늘 이력 반영 ({@link #recordRefresh(List)})</li>
+ * <li>매일 rollup-cron: 남아 있는 원본 기간의 일별 이력 재집계 후 raw-days 이전 원본, history-days 이전 이력 삭제</li>
+ * <li>변동률은 직전 이력과 비교해 집계 시점에 저장하므로 이력 조회 시 원본을 읽지 않음</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ExchangeRateHistoryService {
+
+  private final ExchangeRatesCacheRepository exchangeRatesCacheRepository;
+  private final ExchangeRateHistoryRepository exchangeRateHistoryRepository;
+  private final int rawRetentionDays;
+  private final int historyRetentionDays;
+  private final int maxHistoryDays;
+
+  public ExchangeRateHistoryService(
+      ExchangeRatesCacheRepository exchangeRatesCacheRepository,
+      ExchangeRateHistoryRepository exchangeRateHistoryRepository,
+      @Value("${app.exchange-rate.retention.raw-days:7}") int rawRetentionDays,
+      @Value("${app.exchange-rate.retention.history-days:730}") int historyRetentionDays,
+      @Value("${app.exchange-rate.history.max-days:365}") int maxHistoryDays) {
+    this.exchangeRatesCacheRepository = exchangeRatesCacheRepository;
+    this.exchangeRateHistoryRepository = exchangeRateHistoryRepository;
+    this.rawRetentionDays = rawRetentionDays;
+    this.historyRetentionDays = historyRetentionDays;
+    this.maxHistoryDays = maxHistoryDays;
+  }
+
+  /**
+   * 갱신으로 저장된 환율 반영: 이전 활성 행을 비활성화하고 오늘 이력을 갱신
+   *
+   * @param saved 이번 갱신에서 저장된 원본 행
+   */
+  @Transactional
+  public void recordRefresh(List<ExchangeRatesCache> saved) {
+    if (saved.isEmpty()) {
+      return;
+    }
+    LocalDateTime refreshedAt = saved.stream()
+        .map(ExchangeRatesCache::getFetchedAt)
+        .min(Comparator.naturalOrder())
+        .orElseThrow();
+    int deactivated = exchangeRatesCacheRepository.deactivateFetchedBefore(refreshedAt);
+    rollupDay(refreshedAt.toLocalDate(), saved);
+    log.info("환율 갱신 반영: 이전 활성 행 {}건 비활성화, 이력 {}건 갱신", deactivated, saved.size());
+  }
+
+  /**
+   * 남아 있는 원본 기간의 일별 이력을 재집계하고 보존 기간이 지난 원본과 이력을 삭제
+   */
+  @Scheduled(cron = "${app.exchange-rate.retention.rollup-cron:0 30 0 * * *}")
+  @Transactional
+  public void rollupAndPurge() {
+    LocalDate today = LocalDate.now();
+    LocalDateTime oldest = exchangeRatesCacheRepository.findOldestFetchedAt();
+    int days = 0;
+    if (oldest != null) {
+      for (LocalDate day = oldest.toLocalDate(); !day.isAfter(today); day = day.plusDays(1)) {
+        List<ExchangeRatesCache> latest = exchangeRatesCacheRepository.findLatestFetchedBetween(
+            day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        if (!latest.isEmpty()) {
+          rollupDay(day, latest);
+          days++;
+        }
+      }
+    }
+
+    // 집계가 끝난 뒤 삭제하므로 보존 기간 이전 원본도 이력에는 남아 있음
+    int rawDeleted = exchangeRatesCacheRepository.deleteByFetchedAtBefore(
+        today.minusDays(rawRetentionDays).atStartOfDay());
+    int historyDeleted = exchangeRateHistoryRepository.deleteByRateDateBefore(today.minusDays(historyRetentionDays));
+    log.info("환율 이력 집계 완료: {}일 집계, 원본 {}건, 이력 {}건 삭제", days, rawDeleted, historyDeleted);
+  }
+
+  /**
+   * 통화의 일별 환율 이력 조회 (수출입 구분별 시계열)
+   *
+   * @param currencyCode 통화 코드
+   * @param days         조회 기간(일), max-days로 제한
+   */
+  public List<ExchangeRateHistoryResponse> getHistory(String currencyCode, int days) {
+    LocalDate from = LocalDate.now().minusDays(Math.max(1, Math.min(days, maxHistoryDays)) - 1L);
+    List<ExchangeRateHistory> rows = exchangeRateHistoryRepository
+        .findAllByCurrencyCodeAndRateDateGreaterThanEqualOrderByRateTypeAscRateDateAsc(currencyCode.toUpperCase(), from);
+
+    Map<RateType, List<ExchangeRateHistory>> byType = new LinkedHashMap<>();
+    for (ExchangeRateHistory row : rows) {
+      byType.computeIfAbsent(row.getRateType(), type -> new ArrayList<>()).add(row);
+    }
+
+    List<ExchangeRateHistoryResponse> result = new ArrayList<>(byType.size());
+    byType.forEach((type, series) -> result.add(new ExchangeRateHistoryResponse(
+        series.get(0).getCurrencyCode(),
+        series.get(series.size() - 1).getCurrencyName(),
+        type,
+        series.stream().map(ExchangeRateHistoryResponse.Point::from).toList())));
+    return result;
+  }
+
+  /**
+   * 하루치 이력 반영 (통화, 구분별로 없으면 추가, 있으면 갱신)
+   */
+  private void rollupDay(LocalDate day, List<ExchangeRatesCache> latest) {
+    Map<String, ExchangeRateHistory> existing = new HashMap<>();
+    for (ExchangeRateHistory history : exchangeRateHistoryRepository.findAllByRateDate(day)) {
+      existing.put(key(history.getCurrencyCode(), history.getRateType()), history);
+    }
+    Map<String, ExchangeRateHistory> previous = new HashMap<>();
+    for (ExchangeRateHistory history : exchangeRateHistoryRepository.findLatestBefore(day)) {
+      previous.put(key(history.getCurrencyCode(), history.getRateType()), history);
+    }
+
+    List<ExchangeRateHistory> created = new ArrayList<>();
+    for (ExchangeRatesCache rate : latest) {
+      RateType type = RateType.of(rate.getCurrencyName());
+      String key = key(rate.getCurrencyCode(), type);
+      BigDecimal changeRate = changeRate(previous.get(key), rate.getExchangeRate());
+
+      ExchangeRateHistory history = existing.get(key);
+      if (history == null) {
+        created.add(ExchangeRateHistory.builder()
+            .currencyCode(rate.getCurrencyCode())
+            .currencyName(rate.getCurrencyName())
+            .rateType(type)
+            .rateDate(day)
+            .exchangeRate(rate.getExchangeRate())
+            .changeRate(changeRate)
+            .fetchedAt(rate.getFetchedAt())
+            .build());
+      } else if (!rate.getFetchedAt().isBefore(history.getFetchedAt())) {
+        history.update(rate.getCurrencyName(), rate.getExchangeRate(), changeRate, rate.getFetchedAt());
+      }
+    }
+    exchangeRateHistoryRepository.saveAll(created);
+  }
+
+  /** 직전 이력 대비 변동률(%) (직전 이력이 없으면 null) */
+  private static BigDecimal changeRate(ExchangeRateHistory previous, BigDecimal rate) {
+    if (previous == null || previous.getExchangeRate().signum() == 0) {
+      return null;
+    }
+    return rate.subtract(previous.getExchangeRate())
+        .multiply(BigDecimal.valueOf(100))
+        .divide(previous.getExchangeRate(), 4, RoundingMode.HALF_UP);
+  }
+
+  private static String key(String currencyCode, RateType type) {
+    return currencyCode + ":" + type;
+  }
+}
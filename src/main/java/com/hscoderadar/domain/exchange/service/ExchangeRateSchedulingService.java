@@ -19,7 +19,7 @@ public class ExchangeRateSchedulingService {
     @Scheduled(cron = "0 0 0 * * *")
     public void scheduleDailyExchangeRateFetch() {
         log.info("매일 환율 정보 갱신 스케줄을 시작합니다.");
-        exchangeRateService.getLatestExchangeRates()
+        exchangeRateService.refreshExchangeRates()
             .doOnSuccess(rates -> log.info("스케줄에 따라 {}개의 환율 정보가 성공적으로 갱신되었습니다.", rates.size()))
             .doOnError(error -> log.error("환율 정보 갱신 스케줄 중 오류가 발생했습니다.", error))
             .subscribe();
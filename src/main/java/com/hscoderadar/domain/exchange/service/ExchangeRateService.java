@@ -7,6 +7,8 @@ import com.hscoderadar.domain.exchange.repository.ExchangeRatesCacheRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
@@ -15,15 +17,19 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.core.scheduler.Schedulers;
 
 import java.math.BigDecimal;
 import java.net.URI;
 import java.time.LocalDate;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -34,6 +40,7 @@ import java.util.stream.Stream;
 public class ExchangeRateService {
 
   private final ExchangeRatesCacheRepository exchangeRatesCacheRepository;
+  private final ExchangeRateHistoryService exchangeRateHistoryService;
   private final WebClient webClient;
 
   @Value("${customs.api.key}")
@@ -41,28 +48,117 @@ public class ExchangeRateService {
 
   private final String apiUrl = "https://unipass.customs.go.kr:38010/ext/rest/trifFxrtInfoQry/retrieveTrifFxrtInfo";
 
+  // 만료된 스냅샷을 갱신 중에 대신 응답할 수 있는 최대 기간 (stale-while-revalidate)
+  @Value("${app.exchange-rate.max-stale:PT24H}")
+  private Duration maxStale;
+
+  // 관세청 API 갱신 실패 후 다시 호출하지 않는 기간 (그동안은 만료된 스냅샷으로 응답)
+  @Value("${app.exchange-rate.failure-cooldown:PT1M}")
+  private Duration failureCooldown;
+
+  // 마지막 갱신 실패 시각 (성공 시 null)
+  private final AtomicReference<LocalDateTime> lastRefreshFailure = new AtomicReference<>();
+
+  // 메모리 환율 스냅샷 (갱신 시 통째로 교체, 만료 또는 미적재 시에만 DB 조회)
+  private final AtomicReference<ExchangeRateSnapshot> snapshot = new AtomicReference<>();
+
+  // 진행 중인 관세청 API 갱신 (동시 요청은 새로 호출하지 않고 이 결과를 함께 기다림)
+  private final AtomicReference<Mono<List<ExchangeRateResponse>>> inFlightRefresh = new AtomicReference<>();
+
+  /**
+   * 애플리케이션 시작 시 DB의 유효한 환율로 스냅샷 적재
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadSnapshotOnStartup() {
+    try {
+      ExchangeRateSnapshot loaded = loadSnapshotFromDatabase();
+      log.info("환율 스냅샷 적재: {}건", loaded != null ? loaded.rates().size() : 0);
+    } catch (Exception e) {
+      log.warn("시작 시 환율 스냅샷 적재 실패 (첫 요청 시 다시 시도): {}", e.getMessage());
+    }
+  }
+
   /**
    * 최신 환율 정보 목록 조회
-   * 캐시를 먼저 확인하고, 유효한 캐시가 있으면 API 호출 없이 즉시 반환
-   * 유효한 캐시가 없을 경우에만 외부 API를 호출하여 최신 정보를 가져와 캐싱
+   * 메모리 스냅샷을 먼저 확인하고, 없거나 만료되었으면 DB 캐시로 스냅샷을 다시 만듦
+   * 유효한 DB 캐시도 없으면 관세청 API로 갱신하되, 만료된 지 max-stale 이내의 스냅샷이 있으면 그것을 즉시 반환하고
+   * 갱신은 백그라운드로 진행함. 갱신은 노드당 한 번만 실행되며 동시 요청은 같은 결과를 기다림
+   * 갱신이 실패하면 failure-cooldown 동안 API를 다시 호출하지 않고 만료된 스냅샷(없으면 빈 목록)으로 응답함
    */
   @Transactional
   public Mono<List<ExchangeRateResponse>> getLatestExchangeRates() {
-    // DB에서 활성 상태이고 만료되지 않은 최신 환율 정보를 조회
-    List<ExchangeRatesCache> cachedRates = exchangeRatesCacheRepository
-        .findLatestActiveExchangeRates(LocalDateTime.now());
+    ExchangeRateSnapshot current = currentSnapshot();
+    if (current != null) {
+      return Mono.just(current.rates());
+    }
 
-    // 캐시가 비어있지 않다면, 캐시된 데이터를 즉시 DTO로 변환하여 반환
-    if (!cachedRates.isEmpty()) {
-      log.info("유효한 환율 캐시 {}건을 조회했습니다. API 호출을 생략합니다.", cachedRates.size());
-      List<ExchangeRateResponse> dtoList = cachedRates.stream()
-          .map(ExchangeRateResponse::from)
-          .collect(Collectors.toList());
-      return Mono.just(dtoList);
+    // 스냅샷이 없으면 DB에서 활성 상태이고 만료되지 않은 최신 환율 정보로 스냅샷 생성
+    ExchangeRateSnapshot stale = snapshot.get();
+    current = loadSnapshotFromDatabase();
+    if (current != null) {
+      log.info("유효한 환율 캐시 {}건을 조회했습니다. API 호출을 생략합니다.", current.rates().size());
+      return Mono.just(current.rates());
     }
 
-    // 유효한 캐시가 없을 경우에만 아래 로직이 실행
-    log.info("유효한 캐시가 없어 관세청 OPEN API를 호출합니다 (수입/수출 동시).");
+    if (stale != null && !stale.rates().isEmpty()
+        && (isCoolingDown() || LocalDateTime.now().isBefore(stale.expiresAt().plus(maxStale)))) {
+      log.info("만료된 환율 스냅샷 {}건으로 응답하고 백그라운드에서 갱신합니다.", stale.rates().size());
+      refreshExchangeRates().subscribe(
+          rates -> { },
+          error -> log.error("환율 백그라운드 갱신 실패", error));
+      return Mono.just(stale.rates());
+    }
+
+    return refreshExchangeRates()
+        .map(rates -> rates.isEmpty() && stale != null ? stale.rates() : rates);
+  }
+
+  /**
+   * 관세청 API로 환율을 갱신 (single-flight)
+   * 이미 진행 중인 갱신이 있으면 새로 호출하지 않고 그 결과를 반환하므로, 동시 요청이 몰려도 API 호출과 DB 저장은 한 번만 일어남.
+   * 갱신은 요청 구독과 분리되어 실행되므로 한 요청이 취소되어도 다른 대기자에게 영향이 없음.
+   * 마지막 실패 후 failure-cooldown 이내이면 API를 호출하지 않음 (장애 중 요청마다 갱신이 다시 몰리는 것을 방지)
+   *
+   * @return 저장된 환율 목록 (API 오류 또는 실패 대기 기간 중에는 빈 목록)
+   */
+  public Mono<List<ExchangeRateResponse>> refreshExchangeRates() {
+    Mono<List<ExchangeRateResponse>> existing = inFlightRefresh.get();
+    if (existing != null) {
+      log.debug("진행 중인 환율 갱신에 합류합니다.");
+      return existing;
+    }
+    if (isCoolingDown()) {
+      log.debug("최근 환율 갱신이 실패하여 {} 동안 API 호출을 생략합니다.", failureCooldown);
+      return Mono.just(Collections.emptyList());
+    }
+
+    Sinks.One<List<ExchangeRateResponse>> result = Sinks.one();
+    Mono<List<ExchangeRateResponse>> shared = result.asMono();
+    if (!inFlightRefresh.compareAndSet(null, shared)) {
+      return refreshExchangeRates();
+    }
+
+    fetchAndStoreFromCustomsApi()
+        .doOnNext(rates -> lastRefreshFailure.set(rates.isEmpty() ? LocalDateTime.now() : null))
+        .doOnError(error -> lastRefreshFailure.set(LocalDateTime.now()))
+        .doFinally(signal -> inFlightRefresh.compareAndSet(shared, null))
+        .subscribe(result::tryEmitValue, result::tryEmitError);
+    return shared;
+  }
+
+  /**
+   * 최근 갱신 실패 후 대기 기간 이내인지 여부
+   */
+  private boolean isCoolingDown() {
+    LocalDateTime failedAt = lastRefreshFailure.get();
+    return failedAt != null && LocalDateTime.now().isBefore(failedAt.plus(failureCooldown));
+  }
+
+  /**
+   * 수입/수출 환율을 동시에 조회하여 저장
+   */
+  private Mono<List<ExchangeRateResponse>> fetchAndStoreFromCustomsApi() {
+    log.info("관세청 OPEN API를 호출합니다 (수입/수출 동시).");
 
     Mono<List<CustomsExchangeRateResponse.Item>> importRatesMono = fetchFromCustomsApi("2"); // 수입
     Mono<List<CustomsExchangeRateResponse.Item>> exportRatesMono = fetchFromCustomsApi("1"); // 수출
@@ -92,19 +188,19 @@ public class ExchangeRateService {
   public Mono<List<ExchangeRateResponse>> getExchangeRateByCurrency(String currencyCode) {
     final String searchCode = currencyCode.toUpperCase();
 
-    List<ExchangeRatesCache> cachedRates = exchangeRatesCacheRepository
-        .findAllByCurrencyCodeAndIsActiveTrueAndExpiresAtAfter(searchCode, LocalDateTime.now());
+    ExchangeRateSnapshot current = currentSnapshot();
 
-    List<ExchangeRateResponse> foundRates = cachedRates.stream()
-        .map(ExchangeRateResponse::from)
-        .collect(Collectors.toList());
-
-    if (!foundRates.isEmpty()) {
-      log.info("캐시에서 {} 관련 환율 정보 {}건을 찾았습니다.", searchCode, foundRates.size());
+    // 유효한 스냅샷은 전체 통화를 담고 있으므로 없는 통화는 바로 404
+    if (current != null) {
+      List<ExchangeRateResponse> foundRates = current.ratesOf(searchCode);
+      if (foundRates.isEmpty()) {
+        return Mono.error(
+            new ResponseStatusException(HttpStatus.NOT_FOUND, "해당 국가의 환율 정보를 찾을 수 없습니다: " + searchCode));
+      }
       return Mono.just(foundRates);
     }
 
-    log.info("캐시에 {} 정보가 없어 API 호출 후 필터링합니다.", searchCode);
+    log.info("유효한 스냅샷이 없어 최신 환율 조회 후 {}를 필터링합니다.", searchCode);
     return getLatestExchangeRates().map(rateList -> {
       List<ExchangeRateResponse> results = rateList.stream()
           .filter(dto -> dto.currencyCode().equalsIgnoreCase(searchCode))
@@ -177,9 +273,48 @@ public class ExchangeRateService {
 
       log.info("DB에 {}건의 환율 정보를 한번에 저장 완료", savedEntities.size());
 
-      return savedEntities.stream()
-          .map(ExchangeRateResponse::from)
-          .collect(Collectors.toList());
+      // 이전 활성 행 비활성화 및 일별 이력 반영 (실패해도 조회 응답에는 영향 없음)
+      try {
+        exchangeRateHistoryService.recordRefresh(savedEntities);
+      } catch (Exception e) {
+        log.warn("환율 이력 반영 실패 (다음 집계에서 재시도): {}", e.getMessage());
+      }
+
+      return swapSnapshot(savedEntities).rates();
     }).subscribeOn(Schedulers.boundedElastic()); // DB I/O 작업을 별도 스레드에서 실행
   }
-}
\ No newline at end of file
+
+  /**
+   * 유효한 메모리 스냅샷 (없거나 만료되었으면 null)
+   */
+  private ExchangeRateSnapshot currentSnapshot() {
+    ExchangeRateSnapshot current = snapshot.get();
+    return current != null && current.isValid(LocalDateTime.now()) ? current : null;
+  }
+
+  /**
+   * DB의 유효한 최신 환율로 스냅샷을 만들어 교체
+   *
+   * @return 새 스냅샷 (유효한 캐시가 없으면 null)
+   */
+  private ExchangeRateSnapshot loadSnapshotFromDatabase() {
+    List<ExchangeRatesCache> cachedRates = exchangeRatesCacheRepository
+        .findLatestActiveExchangeRates(LocalDateTime.now());
+    return cachedRates.isEmpty() ? null : swapSnapshot(cachedRates);
+  }
+
+  /**
+   * 엔티티 목록으로 새 스냅샷을 만들어 원자적으로 교체 (만료 시각은 가장 이른 항목 기준)
+   */
+  private ExchangeRateSnapshot swapSnapshot(List<ExchangeRatesCache> entities) {
+    LocalDateTime expiresAt = entities.stream()
+        .map(ExchangeRatesCache::getExpiresAt)
+        .min(Comparator.naturalOrder())
+        .orElseGet(LocalDateTime::now);
+    ExchangeRateSnapshot created = ExchangeRateSnapshot.of(
+        entities.stream().map(ExchangeRateResponse::from).toList(), expiresAt);
+    snapshot.set(created);
+    log.debug("환율 스냅샷 교체: {}건, 만료 {}", created.rates().size(), expiresAt);
+    return created;
+  }
+}
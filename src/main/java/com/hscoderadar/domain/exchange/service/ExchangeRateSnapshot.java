@@ -0,0 +1,83 @@
+package com.hscoderadar.domain.exchange.service;
+
+import com.hscoderadar.domain.exchange.dto.response.ExchangeRateResponse;
+import com.hscoderadar.domain.exchange.entity.ExchangeRateHistory.RateType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 환율 정보 불변 스냅샷
+ *
+ * <p>
+ * 갱신 시점의 환율 DTO를 수입/수출 구분별로 통화 코드에 색인해 보관함. 생성 후 변경되지 않으므로 여러 요청이 잠금 없이 동시에 읽고,
+ * 갱신 시에는 새 스냅샷으로 통째로 교체함. 모든 항목의 만료 시각 중 가장 이른 시각이 지나면 유효하지 않음.
+ */
+final class ExchangeRateSnapshot {
+
+  private final List<ExchangeRateResponse> rates;
+  private final Map<RateType, Map<String, ExchangeRateResponse>> ratesByType;
+  private final LocalDateTime expiresAt;
+
+  private ExchangeRateSnapshot(List<ExchangeRateResponse> rates,
+      Map<RateType, Map<String, ExchangeRateResponse>> ratesByType, LocalDateTime expiresAt) {
+    this.rates = rates;
+    this.ratesByType = ratesByType;
+    this.expiresAt = expiresAt;
+  }
+
+  /**
+   * 스냅샷 생성
+   *
+   * @param rates     환율 목록 (조회 응답 순서)
+   * @param expiresAt 스냅샷 만료 시각
+   */
+  static ExchangeRateSnapshot of(List<ExchangeRateResponse> rates, LocalDateTime expiresAt) {
+    Map<RateType, Map<String, ExchangeRateResponse>> ratesByType = new EnumMap<>(RateType.class);
+    for (RateType type : RateType.values()) {
+      ratesByType.put(type, new LinkedHashMap<>());
+    }
+    for (ExchangeRateResponse rate : rates) {
+      // 같은 구분, 같은 통화가 여러 건이면 마지막(최신) 항목 사용
+      ratesByType.get(RateType.of(rate.currencyName())).put(rate.currencyCode().toUpperCase(), rate);
+    }
+    ratesByType.replaceAll((type, byCurrency) -> Collections.unmodifiableMap(byCurrency));
+    return new ExchangeRateSnapshot(List.copyOf(rates), Collections.unmodifiableMap(ratesByType), expiresAt);
+  }
+
+  /** 현재 시각 기준 유효 여부 */
+  boolean isValid(LocalDateTime now) {
+    return !rates.isEmpty() && now.isBefore(expiresAt);
+  }
+
+  /** 전체 환율 목록 */
+  List<ExchangeRateResponse> rates() {
+    return rates;
+  }
+
+  /**
+   * 통화 코드의 수입/수출 환율 조회
+   *
+   * @param currencyCode 대문자 통화 코드
+   * @return 수입, 수출 순서의 환율 목록 (없으면 빈 목록)
+   */
+  List<ExchangeRateResponse> ratesOf(String currencyCode) {
+    List<ExchangeRateResponse> found = new ArrayList<>(2);
+    for (Map<String, ExchangeRateResponse> byCurrency : ratesByType.values()) {
+      ExchangeRateResponse rate = byCurrency.get(currencyCode);
+      if (rate != null) {
+        found.add(rate);
+      }
+    }
+    return found;
+  }
+
+  LocalDateTime expiresAt() {
+    return expiresAt;
+  }
+}
@@ -10,6 +10,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,4 +47,15 @@ public interface UpdateFeedRepository extends JpaRepository<UpdateFeed, Long> {
     @Modifying
     @Query("UPDATE UpdateFeed f SET f.isRead = true WHERE f.id = :feedId")
     void markAsReadByFeedId(@Param("feedId") Long feedId);
+
+    /**
+     * 사용자별 최근 피드의 대상과 중요도 조회 (알림 요약 정렬용)
+     * 본문(TEXT)을 읽지 않도록 사용자 ID, 대상 값, 제목, 중요도만 조회
+     */
+    @Query("SELECT f.user.id, f.targetValue, f.title, f.importance FROM UpdateFeed f " +
+        "WHERE f.user.id IN :userIds AND f.createdAt >= :since")
+    List<Object[]> findRecentImportanceByUserIdIn(
+        @Param("userIds") Collection<Long> userIds,
+        @Param("since") LocalDateTime since
+    );
 }
\ No newline at end of file
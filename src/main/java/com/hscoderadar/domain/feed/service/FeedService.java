@@ -2,7 +2,7 @@ package com.hscoderadar.domain.feed.service;
 
 import com.hscoderadar.domain.feed.dto.response.FeedResponse;
 import com.hscoderadar.domain.feed.repository.UpdateFeedRepository;
-import com.hscoderadar.domain.user.entity.User;
+import com.hscoderadar.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,16 +15,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class FeedService {
 
   private final UpdateFeedRepository updateFeedRepository;
+  private final UserRepository userRepository;
 
-  public Page<FeedResponse> getFeeds(User user, Pageable pageable) {
-    return updateFeedRepository.findByUserOrderByCreatedAtDesc(user, pageable)
+  public Page<FeedResponse> getFeeds(Long userId, Pageable pageable) {
+    return updateFeedRepository.findByUserOrderByCreatedAtDesc(userRepository.getReferenceById(userId), pageable)
         .map(FeedResponse::from);
   }
 
   @Transactional
-  public void markFeedAsRead(User user, Long feedId) {
+  public void markFeedAsRead(Long userId, Long feedId) {
     // 1. 피드의 존재 여부와 소유권 확인
-    updateFeedRepository.findByIdAndUser(feedId, user)
+    updateFeedRepository.findByIdAndUser(feedId, userRepository.getReferenceById(userId))
         .orElseThrow(() -> new SecurityException("해당 피드를 찾을 수 없거나 접근 권한이 없습니다. ID: " + feedId));
 
     // 2. is_read 필드만 업데이트
@@ -32,7 +33,7 @@ public class FeedService {
   }
 
   @Transactional
-  public int markAllFeedsAsRead(User user) {
-    return updateFeedRepository.markAllAsReadForUser(user);
+  public int markAllFeedsAsRead(Long userId) {
+    return updateFeedRepository.markAllAsReadForUser(userRepository.getReferenceById(userId));
   }
 }
\ No newline at end of file
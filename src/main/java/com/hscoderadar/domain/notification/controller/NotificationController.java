@@ -18,13 +18,13 @@ public class NotificationController {
   @GetMapping
   public NotificationSettingsResponse getNotificationSettings(
       @AuthenticationPrincipal PrincipalDetails principalDetails) {
-    return notificationService.getNotificationSettings(principalDetails.getUser());
+    return notificationService.getNotificationSettings(principalDetails.getUserId());
   }
 
   @PutMapping
   public NotificationSettingsResponse updateNotificationSettings(
       @AuthenticationPrincipal PrincipalDetails principalDetails,
       @RequestBody NotificationSettingsUpdateRequest request) {
-    return notificationService.updateNotificationSettings(principalDetails.getUser(), request);
+    return notificationService.updateNotificationSettings(principalDetails.getUserId(), request);
   }
 }
\ No newline at end of file
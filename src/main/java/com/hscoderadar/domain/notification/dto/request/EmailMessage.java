@@ -0,0 +1,11 @@
+package com.hscoderadar.domain.notification.dto.request;
+
+/**
+ * 일괄 발송용 이메일 메시지
+ *
+ * @param to      수신자 이메일
+ * @param subject 제목
+ * @param content 본문 (일반 텍스트, HTML 템플릿에 채워짐)
+ */
+public record EmailMessage(String to, String subject, String content) {
+}
@@ -0,0 +1,24 @@
+package com.hscoderadar.domain.notification.dto.response;
+
+/**
+ * 메시지별 이메일 발송 결과
+ *
+ * @param to           수신자 이메일
+ * @param success      발송 성공 여부
+ * @param errorMessage 실패 사유 (성공 시 null)
+ * @param retryable    일시적 오류(서버 일시 거부, 연결 실패)로 발송되지 않아 다시 시도할 수 있는지 여부
+ */
+public record EmailSendResult(String to, boolean success, String errorMessage, boolean retryable) {
+
+  public static EmailSendResult sent(String to) {
+    return new EmailSendResult(to, true, null, false);
+  }
+
+  public static EmailSendResult failed(String to, String errorMessage) {
+    return new EmailSendResult(to, false, errorMessage, false);
+  }
+
+  public static EmailSendResult retryable(String to, String errorMessage) {
+    return new EmailSendResult(to, false, errorMessage, true);
+  }
+}
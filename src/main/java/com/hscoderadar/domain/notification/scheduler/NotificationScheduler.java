@@ -1,6 +1,7 @@
 package com.hscoderadar.domain.notification.scheduler;
 
 import com.hscoderadar.domain.notification.service.NotificationSendingService;
+import com.hscoderadar.domain.notification.service.NotificationSlotRouter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,15 +12,20 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class NotificationScheduler {
 
+  private final NotificationSlotRouter notificationSlotRouter;
   private final NotificationSendingService notificationSendingService;
 
   /**
-   * 주기적으로 Redis의 알림 큐를 확인하고 모든 알림을 발송하는 스케줄러
+   * 발송 시간대(slot)마다 새로 쌓인 알림을 사용자별 알림 시간에 맞춰 예약하고, 발송 시각이 된 알림만 발송하는 스케줄러
+   * 사용자가 설정한 알림 시간(UserSettings.notificationTime)은 다음 slot에서 발송됨
    */
-  @Scheduled(cron = "00 00 09 * * *")
+  @Scheduled(cron = "${app.notification.schedule.slot-cron:0 0/30 * * * *}",
+      zone = "${app.notification.schedule.zone:Asia/Seoul}")
   public void runNotificationJob() {
     log.info("레디스 알림 발송 스케줄러를 시작합니다.");
+    notificationSlotRouter.schedulePending();
+    notificationSlotRouter.promoteDue();
     notificationSendingService.sendAllPendingNotifications();
     log.info("레디스 알림 발송 스케줄러를 종료합니다.");
   }
-}
\ No newline at end of file
+}
@@ -1,5 +1,34 @@
 package com.hscoderadar.domain.notification.service;
 
+import com.hscoderadar.domain.notification.dto.request.EmailMessage;
+import com.hscoderadar.domain.notification.dto.response.EmailSendResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
 public interface EmailService {
     void sendEmail(String to, String subject, String content);
-}
\ No newline at end of file
+
+    /**
+     * 여러 메일을 SMTP 연결을 재사용하여 일괄 발송 (HTML 템플릿 적용)
+     * 개별 메일의 실패는 예외 대신 결과로 반환
+     * @param messages 발송할 메일 목록
+     * @return 메일별 발송 결과 (입력 순서와 동일)
+     */
+    List<EmailSendResult> sendBatch(List<EmailMessage> messages);
+
+    /**
+     * 여러 메일을 구현체의 발송 단위(SMTP 연결 등)로 나누어 executor에서 병렬 발송
+     * 기본 구현은 나누지 않고 한 번에 발송
+     * @param messages 발송할 메일 목록
+     * @param executor 발송 단위별 작업을 실행할 Executor
+     * @param onChunkSent 발송 단위가 끝날 때마다 (messages 내 시작 위치, 메일별 결과)로 호출
+     * @return 모든 발송 단위가 끝나면 완료되는 Future
+     */
+    default CompletableFuture<Void> sendBatch(List<EmailMessage> messages, Executor executor,
+            BiConsumer<Integer, List<EmailSendResult>> onChunkSent) {
+        return CompletableFuture.runAsync(() -> onChunkSent.accept(0, sendBatch(messages)), executor);
+    }
+}
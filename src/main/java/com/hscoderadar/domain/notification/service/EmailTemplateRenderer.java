@@ -0,0 +1,83 @@
+package com.hscoderadar.domain.notification.service;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HTML 메일 템플릿 렌더러
+ *
+ * <p>
+ * templates/mail/{name}.html의 {{key}} 자리에 값을 채움. 템플릿은 처음 사용할 때 한 번만 읽어 고정 문자열과 자리 표시자로
+ * 나눠 두므로, 대량 발송 시 메시지마다 파일을 읽거나 파싱하지 않음. 값은 HTML 이스케이프 후 줄바꿈을 &lt;br&gt;로 변환함.
+ */
+@Component
+public class EmailTemplateRenderer {
+
+  private static final String TEMPLATE_PATH = "templates/mail/%s.html";
+
+  private final Map<String, CompiledTemplate> templates = new ConcurrentHashMap<>();
+
+  /**
+   * 템플릿 렌더링
+   *
+   * @param name   템플릿 이름 (예: daily-digest)
+   * @param values 자리 표시자 값 (일반 텍스트)
+   * @return 렌더링된 HTML
+   */
+  public String render(String name, Map<String, String> values) {
+    return templates.computeIfAbsent(name, EmailTemplateRenderer::compile).render(values);
+  }
+
+  private static CompiledTemplate compile(String name) {
+    String source;
+    try (InputStream in = new ClassPathResource(TEMPLATE_PATH.formatted(name)).getInputStream()) {
+      source = StreamUtils.copyToString(in, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException("메일 템플릿을 읽을 수 없음: " + name, e);
+    }
+
+    List<String> literals = new ArrayList<>();
+    List<String> keys = new ArrayList<>();
+    int position = 0;
+    int start;
+    while ((start = source.indexOf("{{", position)) >= 0) {
+      int end = source.indexOf("}}", start);
+      if (end < 0) {
+        break;
+      }
+      literals.add(source.substring(position, start));
+      keys.add(source.substring(start + 2, end).trim());
+      position = end + 2;
+    }
+    literals.add(source.substring(position));
+    return new CompiledTemplate(literals, keys);
+  }
+
+  /** 고정 문자열(literals)과 자리 표시자(keys)가 번갈아 나오는 템플릿 (literals.size() == keys.size() + 1) */
+  private record CompiledTemplate(List<String> literals, List<String> keys) {
+
+    String render(Map<String, String> values) {
+      StringBuilder html = new StringBuilder(literals.stream().mapToInt(String::length).sum() + 1024);
+      for (int i = 0; i < keys.size(); i++) {
+        html.append(literals.get(i));
+        String value = values.get(keys.get(i));
+        if (value != null) {
+          html.append(HtmlUtils.htmlEscape(value, StandardCharsets.UTF_8.name()).replace("\n", "<br>\n"));
+        }
+      }
+      html.append(literals.get(keys.size()));
+      return html.toString();
+    }
+  }
+}
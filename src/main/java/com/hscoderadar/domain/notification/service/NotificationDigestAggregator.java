@@ -0,0 +1,162 @@
+package com.hscoderadar.domain.notification.service;
+
+import com.hscoderadar.domain.feed.entity.UpdateFeed.ImportanceLevel;
+import com.hscoderadar.domain.feed.repository.UpdateFeedRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 요약 알림 생성기
+ *
+ * <p>
+ * 북마크마다 알림 작업이 하나씩 쌓이므로 같은 사용자에게 같은 채널로 가는 알림을 하나의 요약 알림으로 합쳐 발송 횟수(SMS 비용)를 줄임.
+ * <ul>
+ * <li>(사용자, 채널) 단위로 묶으며 알림이 하나뿐이면 그대로 발송</li>
+ * <li>중요도(HIGH → MEDIUM → LOW) 순으로 정렬, 같은 중요도는 큐 순서 유지</li>
+ * <li>큐 작업에는 피드 정보가 없으므로, 사용자의 최근(feed-lookback) 업데이트 피드 중 대상 값(HS코드, 화물번호)이나 제목이
+ * 알림 본문에 포함된 피드의 가장 높은 중요도를 사용 (일치하는 피드가 없으면 MEDIUM)</li>
+ * <li>SMS 요약은 sms-max-items개까지만 본문에 넣고 나머지는 건수로 안내</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class NotificationDigestAggregator {
+
+  private static final String DEFAULT_TITLE = "무역 규제 업데이트 알림";
+
+  private final UpdateFeedRepository updateFeedRepository;
+  private final boolean enabled;
+  private final int smsMaxItems;
+  private final Duration feedLookback;
+
+  public NotificationDigestAggregator(
+      UpdateFeedRepository updateFeedRepository,
+      @Value("${app.notification.digest.enabled:true}") boolean enabled,
+      @Value("${app.notification.digest.sms-max-items:5}") int smsMaxItems,
+      @Value("${app.notification.digest.feed-lookback:PT24H}") Duration feedLookback) {
+    this.updateFeedRepository = updateFeedRepository;
+    this.enabled = enabled;
+    this.smsMaxItems = smsMaxItems;
+    this.feedLookback = feedLookback;
+  }
+
+  /** 중요도 판단에 사용하는 피드 요약 */
+  private record FeedImportance(String targetValue, String title, ImportanceLevel level) {
+
+    boolean matches(String message) {
+      return (targetValue != null && !targetValue.isBlank() && message.contains(targetValue))
+          || (title != null && !title.isBlank() && message.contains(title));
+    }
+  }
+
+  /**
+   * 같은 사용자, 같은 채널의 알림을 요약 알림 하나로 합침
+   *
+   * @param notifications 큐 순서의 알림 목록
+   * @return 요약된 알림 목록 (사용자, 채널별 첫 알림의 순서 유지)
+   */
+  public List<QueuedNotification> aggregate(List<QueuedNotification> notifications) {
+    if (!enabled || notifications.size() < 2) {
+      return notifications;
+    }
+
+    Map<String, List<QueuedNotification>> groups = new LinkedHashMap<>();
+    for (QueuedNotification notification : notifications) {
+      groups.computeIfAbsent(notification.userId() + ":" + notification.type(), key -> new ArrayList<>())
+          .add(notification);
+    }
+    if (groups.size() == notifications.size()) {
+      return notifications;
+    }
+
+    Map<Long, List<FeedImportance>> importance = loadImportance(groups.values());
+    List<QueuedNotification> result = new ArrayList<>(groups.size());
+    for (List<QueuedNotification> group : groups.values()) {
+      result.add(group.size() == 1 ? group.get(0) : toDigest(group, importance));
+    }
+
+    log.info("알림 요약: {}건 → {}건", notifications.size(), result.size());
+    return result;
+  }
+
+  private QueuedNotification toDigest(List<QueuedNotification> group, Map<Long, List<FeedImportance>> importance) {
+    // List.sort는 안정 정렬이므로 같은 중요도는 큐 순서 유지
+    List<QueuedNotification> sorted = new ArrayList<>(group);
+    sorted.sort(Comparator.comparingInt(notification -> rank(notification, importance)));
+
+    QueuedNotification first = sorted.get(0);
+    boolean sms = "SMS".equals(first.type());
+    int shown = sms ? Math.min(smsMaxItems, sorted.size()) : sorted.size();
+
+    StringBuilder message = new StringBuilder();
+    message.append("[HS코드 레이더] 오늘의 업데이트 ").append(sorted.size()).append("건\n");
+    for (int i = 0; i < shown; i++) {
+      QueuedNotification notification = sorted.get(i);
+      message.append('\n').append(i + 1).append(". ");
+      if (rank(notification, importance) == ImportanceLevel.HIGH.ordinal()) {
+        message.append("[중요] ");
+      }
+      message.append(notification.message()).append('\n');
+    }
+    if (shown < sorted.size()) {
+      message.append("\n외 ").append(sorted.size() - shown).append("건은 웹에서 확인하세요.");
+    }
+
+    return new QueuedNotification(
+        group.stream().flatMap(notification -> notification.taskIds().stream()).toList(),
+        first.userId(),
+        first.type(),
+        DEFAULT_TITLE + " (" + sorted.size() + "건)",
+        message.toString().trim());
+  }
+
+  /** 알림 본문과 일치하는 사용자 피드 중 가장 높은 중요도 (일치하는 피드가 없으면 MEDIUM) */
+  private int rank(QueuedNotification notification, Map<Long, List<FeedImportance>> importance) {
+    String message = notification.message();
+    if (message == null) {
+      return ImportanceLevel.MEDIUM.ordinal();
+    }
+    return importance.getOrDefault(notification.userId(), List.of()).stream()
+        .filter(feed -> feed.matches(message))
+        .mapToInt(feed -> feed.level().ordinal())
+        .min()
+        .orElse(ImportanceLevel.MEDIUM.ordinal());
+  }
+
+  /** 요약 대상(알림이 2건 이상인 그룹) 사용자의 최근 피드 중요도 조회 */
+  private Map<Long, List<FeedImportance>> loadImportance(Iterable<List<QueuedNotification>> groups) {
+    Set<Long> userIds = new HashSet<>();
+    for (List<QueuedNotification> group : groups) {
+      if (group.size() > 1 && group.get(0).userId() != null) {
+        userIds.add(group.get(0).userId());
+      }
+    }
+    if (userIds.isEmpty()) {
+      return Map.of();
+    }
+
+    Map<Long, List<FeedImportance>> importance = new HashMap<>();
+    try {
+      LocalDateTime since = LocalDateTime.now().minus(feedLookback);
+      for (Object[] row : updateFeedRepository.findRecentImportanceByUserIdIn(userIds, since)) {
+        importance.computeIfAbsent((Long) row[0], key -> new ArrayList<>())
+            .add(new FeedImportance((String) row[1], (String) row[2], (ImportanceLevel) row[3]));
+      }
+    } catch (Exception e) {
+      log.warn("피드 중요도 조회 실패, 큐 순서로 요약: {}", e.getMessage());
+    }
+    return importance;
+  }
+}
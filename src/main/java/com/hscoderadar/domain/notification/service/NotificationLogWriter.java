@@ -0,0 +1,210 @@
+package com.hscoderadar.domain.notification.service;
+
+import com.hscoderadar.domain.notification.entity.NotificationLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 알림 발송 로그 write-behind 저장소
+ *
+ * <p>
+ * NotificationLog는 IDENTITY 키를 사용하므로 JPA로는 INSERT 배치가 되지 않음.
+ * 로그를 버퍼에 모아 두었다가 JDBC 배치 INSERT로 한 번에 저장함
+ * (JDBC URL의 reWriteBatchedInserts/rewriteBatchedStatements 옵션으로 다중 행 INSERT로 변환됨).
+ * <ul>
+ * <li>버퍼가 batch-size에 도달하면 즉시 저장</li>
+ * <li>flush-interval-ms마다, 그리고 종료 시 남은 로그 저장</li>
+ * <li>배치 INSERT가 실패하면 한 건씩 다시 저장하여 문제가 있는 행만 제외 (한 행 때문에 배치 전체가 유실되지 않도록)</li>
+ * <li>연결 오류 등 일시적 오류로 저장하지 못한 행은 max-attempts회까지 다음 저장 때 다시 시도하고,
+ * 제약 조건 위반 등 영구 오류 행은 내용을 오류 로그로 남김</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class NotificationLogWriter {
+
+  private static final String INSERT_SQL = """
+      INSERT INTO notification_logs (user_id, notification_id, notification_type, recipient, title, content,
+          status, external_message_id, error_message, cost_krw, scheduled_at, sent_at, delivered_at,
+          created_at, success, message_type)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final ConcurrentLinkedQueue<PendingLog> buffer = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger bufferedCount = new AtomicInteger();
+  private final ReentrantLock flushLock = new ReentrantLock();
+
+  public NotificationLogWriter(
+      JdbcTemplate jdbcTemplate,
+      @Value("${app.notification.log-writer.batch-size:500}") int batchSize,
+      @Value("${app.notification.log-writer.max-attempts:3}") int maxAttempts) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+  }
+
+  /**
+   * 저장 대기 중인 로그
+   *
+   * @param row      저장할 로그
+   * @param attempts 일시적 오류로 저장에 실패한 횟수
+   */
+  private record PendingLog(NotificationLog row, int attempts) {
+  }
+
+  /**
+   * 로그를 버퍼에 추가 (batch-size에 도달하면 호출 스레드에서 저장)
+   *
+   * @param notificationLog 저장할 로그
+   */
+  public void write(NotificationLog notificationLog) {
+    buffer.add(new PendingLog(notificationLog, 0));
+    if (bufferedCount.incrementAndGet() >= batchSize) {
+      flush();
+    }
+  }
+
+  /**
+   * 버퍼에 쌓인 로그 저장 (다른 스레드가 저장 중이면 그 스레드가 이어서 처리)
+   */
+  @Scheduled(fixedDelayString = "${app.notification.log-writer.flush-interval-ms:1000}")
+  public void flush() {
+    if (!flushLock.tryLock()) {
+      return;
+    }
+    try {
+      drainAll();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * 종료 시 남은 로그 저장
+   */
+  @PreDestroy
+  public void close() {
+    flushLock.lock();
+    try {
+      drainAll();
+      if (!buffer.isEmpty()) {
+        log.error("종료 시 저장하지 못한 알림 로그 {}건", buffer.size());
+        buffer.forEach(pending -> logDropped(pending.row(), "종료 시 저장 실패"));
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * 현재 버퍼에 있는 로그만큼 저장 (이번 저장에서 다시 넣은 행은 다음 저장 때 처리)
+   */
+  private void drainAll() {
+    int remaining = bufferedCount.get();
+    while (remaining > 0) {
+      List<PendingLog> batch = new ArrayList<>(Math.min(batchSize, remaining));
+      PendingLog pending;
+      while (batch.size() < batchSize && batch.size() < remaining && (pending = buffer.poll()) != null) {
+        batch.add(pending);
+      }
+      if (batch.isEmpty()) {
+        break;
+      }
+      remaining -= batch.size();
+      bufferedCount.addAndGet(-batch.size());
+      insert(batch);
+    }
+  }
+
+  private void insert(List<PendingLog> batch) {
+    try {
+      jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pending) -> bind(ps, pending.row()));
+      log.debug("알림 로그 {}건 저장", batch.size());
+    } catch (DataAccessException e) {
+      // PostgreSQL 드라이버는 자동 커밋 상태의 배치를 하나의 트랜잭션으로 실행하므로 실패 시 저장된 행이 없음
+      log.warn("알림 로그 배치 저장 실패, 한 건씩 다시 저장: {}건, 오류: {}", batch.size(), e.getMessage());
+      insertEach(batch);
+    }
+  }
+
+  /**
+   * 한 건씩 저장 (일시적 오류가 나면 남은 행은 시도하지 않고 모두 다시 넣음)
+   */
+  private void insertEach(List<PendingLog> batch) {
+    for (int i = 0; i < batch.size(); i++) {
+      PendingLog pending = batch.get(i);
+      try {
+        jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, pending.row()));
+      } catch (TransientDataAccessException | RecoverableDataAccessException
+          | DataAccessResourceFailureException e) {
+        log.warn("일시적 오류로 알림 로그 {}건 저장 보류: {}", batch.size() - i, e.getMessage());
+        batch.subList(i, batch.size()).forEach(this::requeue);
+        return;
+      } catch (DataAccessException e) {
+        logDropped(pending.row(), e.getMessage());
+      }
+    }
+  }
+
+  private void requeue(PendingLog pending) {
+    if (pending.attempts() + 1 >= maxAttempts) {
+      logDropped(pending.row(), "재시도 횟수 초과");
+      return;
+    }
+    buffer.add(new PendingLog(pending.row(), pending.attempts() + 1));
+    bufferedCount.incrementAndGet();
+  }
+
+  /** 저장하지 못한 로그 내용을 오류 로그로 남김 (발송 이력 추적용) */
+  private void logDropped(NotificationLog row, String reason) {
+    log.error("알림 로그 저장 실패: userId={}, notificationId={}, type={}, recipient={}, status={}, externalMessageId={}, reason={}",
+        row.getUser().getId(), row.getNotificationId(), row.getNotificationType(), row.getRecipient(),
+        row.getStatus(), row.getExternalMessageId(), reason);
+  }
+
+  private static void bind(PreparedStatement ps, NotificationLog row) throws SQLException {
+    LocalDateTime now = LocalDateTime.now();
+    ps.setLong(1, row.getUser().getId());
+    ps.setString(2, row.getNotificationId());
+    ps.setString(3, row.getNotificationType().name());
+    ps.setString(4, row.getRecipient());
+    ps.setString(5, row.getTitle());
+    ps.setString(6, row.getContent());
+    ps.setString(7, row.getStatus().name());
+    ps.setString(8, row.getExternalMessageId());
+    ps.setString(9, row.getErrorMessage());
+    ps.setObject(10, row.getCostKrw(), Types.INTEGER);
+    ps.setTimestamp(11, toTimestamp(row.getScheduledAt()));
+    ps.setTimestamp(12, toTimestamp(row.getSentAt()));
+    ps.setTimestamp(13, toTimestamp(row.getDeliveredAt()));
+    ps.setTimestamp(14, toTimestamp(row.getCreatedAt() != null ? row.getCreatedAt() : now));
+    ps.setBoolean(15, row.isSuccess());
+    ps.setString(16, row.getMessageType());
+  }
+
+  private static Timestamp toTimestamp(LocalDateTime dateTime) {
+    return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+  }
+}
@@ -0,0 +1,29 @@
+package com.hscoderadar.domain.notification.service;
+
+/**
+ * 알림 발송용 사용자 읽기 모델 (연락처와 채널 설정)
+ *
+ * @param settingsPresent 전역 알림 설정(UserSettings) 존재 여부
+ */
+record NotificationRecipient(
+    Long userId,
+    String email,
+    String phoneNumber,
+    boolean phoneVerified,
+    boolean settingsPresent,
+    boolean smsEnabled,
+    boolean emailEnabled) {
+
+  /** findNotificationRecipientsByIdIn 조회 결과 변환 */
+  static NotificationRecipient from(Object[] row) {
+    boolean settingsPresent = row[4] != null;
+    return new NotificationRecipient(
+        (Long) row[0],
+        (String) row[1],
+        (String) row[2],
+        Boolean.TRUE.equals(row[3]),
+        settingsPresent,
+        settingsPresent && Boolean.TRUE.equals(row[5]),
+        settingsPresent && Boolean.TRUE.equals(row[6]));
+  }
+}
@@ -1,69 +1,114 @@
 package com.hscoderadar.domain.notification.service;
 
+import com.hscoderadar.domain.notification.dto.request.EmailMessage;
 import com.hscoderadar.domain.notification.dto.request.NotificationRequest;
+import com.hscoderadar.domain.notification.dto.response.EmailSendResult;
 import com.hscoderadar.domain.notification.entity.NotificationLog;
 import com.hscoderadar.domain.notification.entity.NotificationLog.MessageType;
 import com.hscoderadar.domain.notification.entity.NotificationLog.NotificationStatus;
 import com.hscoderadar.domain.notification.entity.NotificationLog.NotificationType;
-import com.hscoderadar.domain.notification.repository.NotificationLogRepository;
-import com.hscoderadar.domain.user.entity.User;
-import com.hscoderadar.domain.user.entity.UserSettings;
 import com.hscoderadar.domain.user.repository.UserRepository;
+import com.hscoderadar.domain.sms.dto.request.SmsBatchMessage;
+import com.hscoderadar.domain.sms.dto.response.SmsSendResult;
 import com.hscoderadar.domain.sms.service.SmsService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Collectors;
 
 /**
  * 통합 알림 발송 서비스
+ *
+ * <p>
+ * 발송 시각이 된 알림 목록({@link NotificationSlotRouter})에서 알림을 배치 단위로 꺼내(RPOP count) 상세 정보와 발송 대상 연락처/설정을 한 번에 조회한 뒤,
+ * 사용자별로 묶어 notificationTaskExecutor에서 발송 채널을 결정하고, SMS는 다건 발송으로, 이메일은 SMTP 연결 단위로 나누어 병렬 발송함.
+ * <ul>
+ * <li>기본 모드: 큐에서 꺼낸 작업은 다시 넣지 않으므로 최대 한 번만 발송됨 (at-most-once)</li>
+ * <li>신뢰성 큐 모드: 처리 중 목록에 남겨 두었다가 완료 후 제거하므로 노드 장애 시에도 유실되지 않음 ({@link ReliableNotificationQueue}).
+ * 발송이 길어지면 하위 배치마다 처리 기한을 연장하고, 일시적 오류는 재시도 횟수 안에서 다시 시도함.
+ * 작업은 발송 결과를 확인한 뒤에 완료 처리하므로 제공사 일시 장애로 보내지 못한 알림도 재시도됨</li>
+ * <li>같은 사용자, 같은 채널의 알림은 요약 알림 하나로 합쳐 발송됨 ({@link NotificationDigestAggregator})</li>
+ * <li>같은 사용자의 알림은 큐 순서대로 발송 대기 목록에 추가됨</li>
+ * <li>배치 발송이 모두 끝난 뒤 다음 배치를 꺼내므로 메모리 사용량이 배치 크기로 제한됨</li>
+ * </ul>
  */
 @Slf4j
 @Service
 public class NotificationSendingService {
 
   // Redis 키 상수
-  private static final String UNIFIED_QUEUE_KEY = "daily_notification:queue:";
+  // 발송 시각이 된 알림 목록 (NotificationSlotRouter가 채움)
+  private static final String READY_QUEUE_KEY = NotificationSlotRouter.READY_KEY;
   private static final String DETAIL_KEY_PREFIX = "daily_notification:detail:";
 
+  // 이메일별 발송 결과 기록 상태
+  private static final int NOT_REPORTED = 0;
+  private static final int RESULT_RECEIVED = 1;
+  private static final int LOGGED = 2;
+
   private final RedisTemplate<String, Object> queueRedisTemplate;
   private final UserRepository userRepository;
   private final SmsService smsService;
   private final EmailService emailService;
-  private final NotificationLogRepository notificationLogRepository;
+  private final NotificationLogWriter notificationLogWriter;
+  private final Executor notificationTaskExecutor;
+  private final ReliableNotificationQueue reliableQueue;
+  private final NotificationDigestAggregator digestAggregator;
+  private final int batchSize;
 
   public NotificationSendingService(
       @Qualifier("queueRedisTemplate") RedisTemplate<String, Object> queueRedisTemplate,
       UserRepository userRepository,
       SmsService smsService,
       EmailService emailService,
-      NotificationLogRepository notificationLogRepository) {
+      NotificationLogWriter notificationLogWriter,
+      @Qualifier("notificationTaskExecutor") Executor notificationTaskExecutor,
+      ReliableNotificationQueue reliableQueue,
+      NotificationDigestAggregator digestAggregator,
+      @Value("${app.notification.dispatch.batch-size:200}") int batchSize) {
     this.queueRedisTemplate = queueRedisTemplate;
     this.userRepository = userRepository;
     this.smsService = smsService;
     this.emailService = emailService;
-    this.notificationLogRepository = notificationLogRepository;
+    this.notificationLogWriter = notificationLogWriter;
+    this.notificationTaskExecutor = notificationTaskExecutor;
+    this.reliableQueue = reliableQueue;
+    this.digestAggregator = digestAggregator;
+    this.batchSize = batchSize;
   }
 
   /**
-   * Redis 큐에 대기중인 모든 알림을 발송
+   * 발송 시각이 된 모든 알림을 발송
    */
   public void sendAllPendingNotifications() {
     processUnifiedQueue();
   }
 
   /**
-   * 통합된 단일 알림 큐를 처리
+   * 발송 대기 목록을 처리 (시작 시점의 목록 크기만큼 배치 단위로 처리)
+   * 신뢰성 큐 모드에서는 처리 중 목록으로 옮겨 꺼내고, 배치 처리 후 완료 건은 확인, 영구 실패 건은 dead-letter로 이동
    */
   private void processUnifiedQueue() {
     ListOperations<String, Object> listOps = queueRedisTemplate.opsForList();
 
-    Long queueSize = listOps.size(UNIFIED_QUEUE_KEY);
+    Long queueSize = listOps.size(READY_QUEUE_KEY);
     if (queueSize == null || queueSize == 0) {
       log.info("처리할 알림이 큐에 없습니다.");
       return;
@@ -71,129 +116,444 @@ public class NotificationSendingService {
 
     log.info("총 {}건의 알림을 처리합니다.", queueSize);
 
-    // 큐에 있는 모든 알림을 처리
-    for (long i = 0; i < queueSize; i++) {
-      String taskId = (String) listOps.rightPop(UNIFIED_QUEUE_KEY);
-      if (taskId != null) {
-        try {
-          log.debug("알림 작업 수신: {}", taskId);
-          processSingleNotification(taskId);
-        } catch (Exception e) {
-          log.error("알림 처리 중 taskId={}에 대한 오류 발생", taskId, e);
+    long processed = 0;
+    while (processed < queueSize) {
+      int count = (int) Math.min(batchSize, queueSize - processed);
+      List<String> taskIds = reliableQueue.isEnabled()
+          ? reliableQueue.claim(count)
+          : popTasks(listOps, count);
+      if (taskIds.isEmpty()) {
+        break;
+      }
+      processed += taskIds.size();
+
+      BatchResult result;
+      try {
+        result = dispatchBatch(taskIds);
+      } catch (Exception e) {
+        // 신뢰성 큐 모드에서는 재시도 횟수를 올려 다시 넣음 (재시도 등록도 실패하면 가시성 기한 이후 리퍼가 회수)
+        log.error("알림 배치 처리 중 오류 발생: {}건", taskIds.size(), e);
+        if (reliableQueue.isEnabled()) {
+          retryQuietly(taskIds);
         }
+        continue;
+      }
+
+      if (reliableQueue.isEnabled()) {
+        reliableQueue.ack(result.completed());
+        reliableQueue.deadLetter(result.failed());
+        retryQuietly(result.retry());
+      } else if (!result.completed().isEmpty()) {
+        queueRedisTemplate.delete(result.completed().stream().map(taskId -> DETAIL_KEY_PREFIX + taskId).toList());
       }
     }
+
+    notificationLogWriter.flush();
+    log.info("알림 {}건 처리 완료", processed);
+  }
+
+  private void retryQuietly(List<String> taskIds) {
+    try {
+      reliableQueue.retry(taskIds);
+    } catch (Exception e) {
+      log.error("알림 작업 재시도 등록 실패 (가시성 기한 이후 회수됨): {}건, 에러: {}", taskIds.size(), e.getMessage());
+    }
   }
 
   /**
-   * 개별 알림 작업을 처리하고 Redis에서 관련 데이터를 삭제
-   * 
-   * @param taskId Redis에 저장된 알림의 UUID
+   * 신뢰성 큐 모드에서 배치 작업의 처리 기한을 연장 (하위 배치 발송 전후에 호출)
    */
-  @Transactional
-  public void processSingleNotification(String taskId) {
-    String detailKey = DETAIL_KEY_PREFIX + taskId;
-
+  private void renewClaim(List<String> taskIds) {
+    if (!reliableQueue.isEnabled()) {
+      return;
+    }
     try {
-      Map<Object, Object> details = queueRedisTemplate.opsForHash().entries(detailKey);
+      reliableQueue.extend(taskIds);
+    } catch (Exception e) {
+      log.warn("알림 작업 처리 기한 연장 실패: {}건, 에러: {}", taskIds.size(), e.getMessage());
+    }
+  }
+
+  /**
+   * 큐에서 작업을 꺼냄 (꺼낸 즉시 큐에서 제거됨)
+   */
+  private List<String> popTasks(ListOperations<String, Object> listOps, int count) {
+    List<Object> popped = listOps.rightPop(READY_QUEUE_KEY, count);
+    return popped == null ? List.of() : popped.stream().map(String::valueOf).toList();
+  }
 
-      if (details.isEmpty()) {
+  /**
+   * 알림 배치 발송
+   * 상세 정보(HGETALL)는 파이프라인으로, 발송 대상 연락처와 알림 설정은 배치마다 한 번의 프로젝션 쿼리로 조회한 뒤 사용자별로 병렬 발송
+   *
+   * @param taskIds 큐에서 꺼낸 알림 UUID 목록 (큐 순서)
+   * @return 처리 완료, 영구 실패, 재시도 대상 작업 목록
+   */
+  private BatchResult dispatchBatch(List<String> taskIds) {
+    List<Map<Object, Object>> detailsList = fetchDetails(taskIds);
+
+    List<String> completed = Collections.synchronizedList(new ArrayList<>());
+    List<String> failed = Collections.synchronizedList(new ArrayList<>());
+    List<String> retry = Collections.synchronizedList(new ArrayList<>());
+    List<Delivery> deliveries = Collections.synchronizedList(new ArrayList<>());
+    List<QueuedNotification> queued = new ArrayList<>(taskIds.size());
+    for (int i = 0; i < taskIds.size(); i++) {
+      String taskId = taskIds.get(i);
+      Map<Object, Object> details = detailsList.get(i);
+      if (details == null || details.isEmpty()) {
         log.warn("알림 상세 정보를 찾을 수 없음 (이미 처리되었거나 삭제됨): taskId={}", taskId);
-        return;
+        completed.add(taskId);
+        continue;
+      }
+      try {
+        queued.add(QueuedNotification.from(taskId, details));
+      } catch (Exception e) {
+        log.error("알림 상세 정보 변환 실패: taskId={}. 에러: {}", taskId, e.getMessage());
+        failed.add(taskId);
+      }
+    }
+    if (queued.isEmpty()) {
+      return new BatchResult(completed, failed, retry);
+    }
+
+    // 같은 사용자, 같은 채널의 알림은 요약 알림 하나로 발송
+    queued = digestAggregator.aggregate(queued);
+
+    // 설정 변경(수신 거부 등)이 바로 반영되도록 캐시하지 않고 배치마다 조회
+    Map<Long, NotificationRecipient> recipients = new HashMap<>();
+    for (Object[] row : userRepository.findNotificationRecipientsByIdIn(
+        queued.stream().map(QueuedNotification::userId).collect(Collectors.toSet()))) {
+      NotificationRecipient recipient = NotificationRecipient.from(row);
+      recipients.put(recipient.userId(), recipient);
+    }
+
+    // 사용자별로 묶되 큐 순서를 유지
+    Map<Long, List<QueuedNotification>> queuedByUser = new LinkedHashMap<>();
+    for (QueuedNotification notification : queued) {
+      queuedByUser.computeIfAbsent(notification.userId(), id -> new ArrayList<>()).add(notification);
+    }
+
+    // SMS와 이메일은 사용자별 작업에서 모아 두었다가 배치 단위로 일괄 발송
+    Outbox outbox = new Outbox();
+    List<CompletableFuture<Void>> futures = new ArrayList<>(queuedByUser.size());
+    queuedByUser.forEach((userId, notifications) -> futures.add(CompletableFuture.runAsync(
+        () -> notifications.forEach(notification -> {
+          Delivery delivery = new Delivery(notification.taskIds());
+          switch (processSingleNotification(recipients.get(userId), notification, delivery, outbox)) {
+            case COMPLETED -> deliveries.add(delivery);
+            case FAILED -> failed.addAll(notification.taskIds());
+            case RETRY -> retry.addAll(notification.taskIds());
+          }
+        }),
+        notificationTaskExecutor)));
+
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+    // 발송 제한(백오프 포함)으로 배치가 가시성 기한보다 오래 걸릴 수 있으므로 하위 배치마다 기한 연장
+    renewClaim(taskIds);
+    CompletableFuture<Void> emailSending = sendEmailBatch(outbox.emails(), () -> renewClaim(taskIds));
+    sendSmsBatch(outbox.sms());
+    renewClaim(taskIds);
+    emailSending.join();
+
+    // 발송 결과로 작업 완료 여부 결정 (일시적 오류로 보내지 못한 알림만 재시도)
+    int retried = 0;
+    for (Delivery delivery : deliveries) {
+      if (delivery.outcome() == Outcome.RETRY) {
+        retry.addAll(delivery.taskIds());
+        retried++;
+      } else {
+        completed.addAll(delivery.taskIds());
       }
+    }
 
-      NotificationRequest request = convertMapToRequest(taskId, details);
-      sendNotificationForUser(request);
-      queueRedisTemplate.delete(detailKey);
+    log.info("알림 배치 발송 완료: 요청 {}건, 사용자 {}명, 재시도 {}건", queued.size(), queuedByUser.size(), retried);
+    return new BatchResult(completed, failed, retry);
+  }
 
-      log.info("알림 발송 및 데이터 삭제 성공: taskId={}, type={}", taskId, request.getEffectiveTitle());
+  /**
+   * 모아 둔 SMS를 다건 발송하고 수신자별 결과를 발송 로그로 저장
+   */
+  private void sendSmsBatch(List<PendingNotification> smsOutbox) {
+    if (smsOutbox.isEmpty()) {
+      return;
+    }
 
+    List<SmsSendResult> results;
+    try {
+      results = smsService.sendBatch(smsOutbox.stream()
+          .map(pending -> new SmsBatchMessage(pending.request().phoneNumber(), pending.request().getEffectiveContent()))
+          .toList());
     } catch (Exception e) {
-      log.error("알림 처리 중 예외 발생: taskId={}. 에러: {}", taskId, e.getMessage(), e);
+      // 제공사 오류는 sendBatch가 결과로 반환하므로, 여기서는 발송 전 오류로 보고 재시도
+      log.error("SMS 다건 발송 실패: {}건", smsOutbox.size(), e);
+      smsOutbox.forEach(pending -> {
+        saveLog(pending.recipient(), NotificationType.SMS, pending.request().phoneNumber(),
+            pending.request(), NotificationStatus.FAILED, e.getMessage(), null);
+        pending.delivery().record(false, true);
+      });
+      return;
     }
+
+    int sent = 0;
+    for (int i = 0; i < smsOutbox.size(); i++) {
+      PendingNotification pending = smsOutbox.get(i);
+      SmsSendResult result = results.get(i);
+      saveLog(pending.recipient(), NotificationType.SMS, pending.request().phoneNumber(), pending.request(),
+          result.success() ? NotificationStatus.SENT : NotificationStatus.FAILED,
+          result.errorMessage(), result.messageId());
+      pending.delivery().record(result.success(), result.retryable());
+      if (result.success()) {
+        sent++;
+      } else {
+        log.error("SMS 발송 실패: userId={}, error={}", pending.recipient().userId(), result.errorMessage());
+      }
+    }
+    log.info("SMS 다건 발송 완료: 성공 {}건, 실패 {}건", sent, smsOutbox.size() - sent);
   }
 
   /**
-   * Redis의 Hash 데이터를 NotificationRequest DTO로 변환
+   * 모아 둔 이메일을 발송하고 메일별 결과를 발송 로그로 저장
+   * 발송 단위(SMTP 연결) 분할은 {@link EmailService}가 담당하고, 여기서는 notificationTaskExecutor로 병렬 실행만 지정함.
+   * 발송 단위 작업이 예외로 끝나면 결과 로그가 없는 메일을 실패로 기록하여 동기 실패와 같은 기록을 남김
+   *
+   * @param onChunkSent 발송 단위가 끝날 때마다 호출 (처리 기한 연장)
+   * @return 모든 발송 완료 시 완료되는 Future
    */
-  private NotificationRequest convertMapToRequest(String taskId, Map<Object, Object> details) {
-    Long userId = Long.parseLong((String) details.get("user_id"));
-    String message = (String) details.get("message");
-    String type = (String) details.get("type"); // "EMAIL" or "SMS"
+  private CompletableFuture<Void> sendEmailBatch(List<PendingNotification> emailOutbox, Runnable onChunkSent) {
+    if (emailOutbox.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
 
-    String email = null;
-    String phoneNumber = null;
+    List<EmailMessage> messages = emailOutbox.stream()
+        .map(pending -> new EmailMessage(pending.request().email(), pending.request().getEffectiveTitle(),
+            pending.request().getEffectiveContent()))
+        .toList();
+    // 메일별 진행 상태 (NOT_REPORTED: 결과 없음, RESULT_RECEIVED: 결과 수신, LOGGED: 로그 기록 완료)
+    AtomicIntegerArray states = new AtomicIntegerArray(emailOutbox.size());
+    try {
+      return emailService.sendBatch(messages, notificationTaskExecutor, (offset, results) -> {
+        for (int i = 0; i < results.size(); i++) {
+          states.set(offset + i, RESULT_RECEIVED);
+        }
+        for (int i = 0; i < results.size(); i++) {
+          saveEmailResult(emailOutbox.get(offset + i), results.get(i));
+          states.set(offset + i, LOGGED);
+        }
+        onChunkSent.run();
+      }).exceptionally(e -> {
+        log.error("이메일 일괄 발송 실패: {}건", emailOutbox.size(), e);
+        failUnlogged(emailOutbox, states, e);
+        return null;
+      });
+    } catch (Exception e) {
+      log.error("이메일 일괄 발송 실패: {}건", emailOutbox.size(), e);
+      failUnlogged(emailOutbox, states, e);
+      return CompletableFuture.completedFuture(null);
+    }
+  }
 
-    if ("EMAIL".equals(type)) {
-      email = userRepository.findById(userId).map(User::getEmail).orElse(null);
-    } else if ("SMS".equals(type)) {
-      phoneNumber = userRepository.findById(userId).map(User::getPhoneNumber).orElse(null);
+  private void saveEmailResult(PendingNotification pending, EmailSendResult result) {
+    saveLog(pending.recipient(), NotificationType.EMAIL, pending.request().email(), pending.request(),
+        result.success() ? NotificationStatus.SENT : NotificationStatus.FAILED, result.errorMessage());
+    pending.delivery().record(result.success(), result.retryable());
+    if (!result.success()) {
+      log.error("이메일 발송 실패: userId={}, error={}", pending.recipient().userId(), result.errorMessage());
     }
+  }
 
-    return NotificationRequest.forPythonServer(
-        taskId,
-        userId,
-        email,
-        phoneNumber,
-        message,
-        message);
+  /**
+   * 결과 로그가 없는 메일을 실패로 기록
+   * 결과를 받지 못한 메일은 발송 전 오류이므로 재시도 대상, 결과는 받았지만 기록하지 못한 메일은 발송되었을 수 있으므로 재시도하지 않음
+   */
+  private void failUnlogged(List<PendingNotification> emailOutbox, AtomicIntegerArray states, Throwable e) {
+    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    for (int i = 0; i < emailOutbox.size(); i++) {
+      int state = states.get(i);
+      if (state == LOGGED) {
+        continue;
+      }
+      PendingNotification pending = emailOutbox.get(i);
+      saveLog(pending.recipient(), NotificationType.EMAIL, pending.request().email(), pending.request(),
+          NotificationStatus.FAILED, cause.getMessage());
+      pending.delivery().record(false, state == NOT_REPORTED);
+    }
   }
 
   /**
-   * 사용자 설정을 확인하여 최종적으로 알림을 발송
+   * 일괄 발송 대기 중인 알림
    */
-  private void sendNotificationForUser(NotificationRequest request) {
-    User user = userRepository.findById(request.userId())
-        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + request.userId()));
+  private record PendingNotification(NotificationRecipient recipient, NotificationRequest request, Delivery delivery) {
+  }
 
-    UserSettings globalSettings = user.getUserSettings();
-    if (globalSettings == null) {
-      log.warn("사용자(id:{})의 전역 알림 설정을 찾을 수 없어 알림을 보내지 않습니다.", user.getId());
-      saveLog(user, NotificationType.EMAIL, user.getEmail(), request, NotificationStatus.FAILED, "사용자 설정 없음");
-      return;
+  /**
+   * 알림 하나(요약 알림이면 원본 작업 전체)의 채널별 발송 결과 (SMS와 이메일 결과는 서로 다른 스레드에서 기록됨)
+   */
+  private static final class Delivery {
+
+    private final List<String> taskIds;
+    private int expected;
+    private int reported;
+    private boolean accepted;
+    private boolean retryable;
+
+    Delivery(List<String> taskIds) {
+      this.taskIds = taskIds;
     }
 
-    // SMS 알림 발송
-    if (request.phoneNumber() != null && globalSettings.isSmsNotificationEnabled() && user.isPhoneVerified()) {
-      try {
-        smsService.sendMessage(request.phoneNumber(), request.getEffectiveContent());
-        saveLog(user, NotificationType.SMS, request.phoneNumber(), request, NotificationStatus.SENT, null);
-        log.info("SMS 발송 성공: userId={}", user.getId());
-      } catch (Exception e) {
-        saveLog(user, NotificationType.SMS, request.phoneNumber(), request, NotificationStatus.FAILED, e.getMessage());
-        log.error("SMS 발송 실패: userId={}", user.getId(), e);
+    List<String> taskIds() {
+      return taskIds;
+    }
+
+    /** 발송할 채널 추가 */
+    synchronized void expect() {
+      expected++;
+    }
+
+    /** 채널별 발송 결과 기록 */
+    synchronized void record(boolean success, boolean retryable) {
+      reported++;
+      accepted |= success;
+      this.retryable |= !success && retryable;
+    }
+
+    /**
+     * 한 채널이라도 접수되면 완료 (다시 보내면 접수된 채널이 중복 발송됨).
+     * 모두 실패했고 일시적 오류가 있거나 결과를 받지 못한 채널이 있으면 재시도, 영구 실패뿐이면 완료 (발송 로그에 기록됨)
+     */
+    synchronized Outcome outcome() {
+      if (accepted) {
+        return Outcome.COMPLETED;
       }
+      return retryable || reported < expected ? Outcome.RETRY : Outcome.COMPLETED;
     }
+  }
 
-    // 이메일 알림 발송
-    if (request.email() != null && globalSettings.isEmailNotificationEnabled()) {
-      try {
-        emailService.sendEmail(request.email(), request.getEffectiveTitle(), request.getEffectiveContent());
-        saveLog(user, NotificationType.EMAIL, request.email(), request, NotificationStatus.SENT, null);
-        log.info("이메일 발송 성공: userId={}", user.getId());
-      } catch (Exception e) {
-        saveLog(user, NotificationType.EMAIL, request.email(), request, NotificationStatus.FAILED, e.getMessage());
-        log.error("이메일 발송 실패: userId={}", user.getId(), e);
+  /**
+   * 배치 단위 발송 대기 목록 (사용자별 작업에서 동시에 추가됨)
+   */
+  private record Outbox(List<PendingNotification> sms, List<PendingNotification> emails) {
+
+    Outbox() {
+      this(Collections.synchronizedList(new ArrayList<>()), Collections.synchronizedList(new ArrayList<>()));
+    }
+  }
+
+  /**
+   * 배치 처리 결과
+   *
+   * @param completed 처리 완료: 발송 접수, 발송 채널 없음, 제공사의 영구 거부 (상세 정보 삭제 대상)
+   * @param failed    재시도해도 성공할 수 없는 작업 (사용자 없음, 데이터 오류 등)
+   * @param retry     일시적 오류로 처리하지 못한 작업 (DB, Redis 오류, 제공사 일시 장애 등)
+   */
+  private record BatchResult(List<String> completed, List<String> failed, List<String> retry) {
+  }
+
+  /**
+   * 개별 알림 처리 결과
+   */
+  private enum Outcome {
+    COMPLETED, FAILED, RETRY
+  }
+
+  /**
+   * 알림 상세 정보(Hash)를 파이프라인으로 일괄 조회
+   *
+   * @return taskIds와 같은 순서의 상세 정보 목록
+   */
+  @SuppressWarnings("unchecked")
+  private List<Map<Object, Object>> fetchDetails(List<String> taskIds) {
+    List<Object> results = queueRedisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      public <K, V> Object execute(RedisOperations<K, V> operations) {
+        RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+        for (String taskId : taskIds) {
+          ops.opsForHash().entries(DETAIL_KEY_PREFIX + taskId);
+        }
+        return null;
       }
+    });
+    return results.stream().map(result -> (Map<Object, Object>) result).toList();
+  }
+
+  /**
+   * 개별 알림을 발송
+   *
+   * @param recipient    발송 대상 연락처와 알림 설정 (사용자가 없으면 null)
+   * @param notification 큐에서 꺼낸 알림
+   * @param delivery     채널별 발송 결과를 기록할 대상
+   * @param outbox       일괄 발송 대기 목록
+   * @return 발송 대기 등록(완료 여부는 발송 결과로 결정), 영구 실패(사용자 없음, 데이터 오류), 재시도(그 외 일시적 오류) 중 하나
+   */
+  private Outcome processSingleNotification(NotificationRecipient recipient, QueuedNotification notification,
+      Delivery delivery, Outbox outbox) {
+    try {
+      if (recipient == null) {
+        throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + notification.userId());
+      }
+      NotificationRequest request = notification.toRequest(recipient);
+      sendNotificationForUser(recipient, request, delivery, outbox);
+      log.debug("알림 발송 대기 등록: taskId={}, type={}", request.taskId(), request.getEffectiveTitle());
+      return Outcome.COMPLETED;
+    } catch (IllegalArgumentException e) {
+      log.error("알림 처리 실패 (재시도 불가): taskId={}. 에러: {}", notification.taskId(), e.getMessage());
+      return Outcome.FAILED;
+    } catch (Exception e) {
+      log.error("알림 처리 중 예외 발생 (재시도 대상): taskId={}. 에러: {}", notification.taskId(), e.getMessage(), e);
+      return Outcome.RETRY;
+    }
+  }
+
+  /**
+   * 사용자 설정을 확인하여 발송할 채널을 일괄 발송 대기 목록에 추가
+   */
+  private void sendNotificationForUser(NotificationRecipient recipient, NotificationRequest request, Delivery delivery,
+      Outbox outbox) {
+    if (!recipient.settingsPresent()) {
+      log.warn("사용자(id:{})의 전역 알림 설정을 찾을 수 없어 알림을 보내지 않습니다.", recipient.userId());
+      saveLog(recipient, NotificationType.EMAIL, recipient.email(), request, NotificationStatus.FAILED, "사용자 설정 없음");
+      return;
+    }
+
+    // SMS 알림 발송 (배치 단위 다건 발송)
+    if (request.phoneNumber() != null && recipient.smsEnabled() && recipient.phoneVerified()) {
+      delivery.expect();
+      outbox.sms().add(new PendingNotification(recipient, request, delivery));
+    }
+
+    // 이메일 알림 발송 (배치 단위 일괄 발송)
+    if (request.email() != null && recipient.emailEnabled()) {
+      delivery.expect();
+      outbox.emails().add(new PendingNotification(recipient, request, delivery));
     }
   }
 
   /**
    * 알림 발송 로그를 DB에 저장
    */
-  private void saveLog(User user, NotificationType type, String recipient, NotificationRequest request,
-      NotificationStatus status, String errorMessage) {
+  private void saveLog(NotificationRecipient target, NotificationType type, String recipient,
+      NotificationRequest request, NotificationStatus status, String errorMessage) {
+    saveLog(target, type, recipient, request, status, errorMessage, null);
+  }
+
+  /**
+   * 알림 발송 로그를 DB에 저장 (제공사 메시지 ID 포함)
+   * 사용자는 ID만 필요하므로 조회 없이 참조(프록시)로 연결
+   */
+  private void saveLog(NotificationRecipient target, NotificationType type, String recipient,
+      NotificationRequest request, NotificationStatus status, String errorMessage, String externalMessageId) {
     NotificationLog log = NotificationLog.builder()
-        .user(user)
+        .user(userRepository.getReferenceById(target.userId()))
         .notificationId(request.taskId())
         .notificationType(type)
         .messageType(MessageType.DAILY_NOTIFICATION.name())
         .recipient(recipient)
         .title(request.getEffectiveTitle())
         .content(request.getEffectiveContent())
+        .externalMessageId(externalMessageId)
         .build();
 
     log.updateStatus(status, LocalDateTime.now(), errorMessage);
-    notificationLogRepository.save(log);
+    notificationLogWriter.write(log);
   }
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package com.hscoderadar.domain.notification.service;
 
 import com.hscoderadar.domain.notification.dto.request.NotificationSettingsUpdateRequest;
 import com.hscoderadar.domain.notification.dto.response.NotificationSettingsResponse;
-import com.hscoderadar.domain.user.entity.User;
 import com.hscoderadar.domain.user.entity.UserSettings;
 import com.hscoderadar.domain.user.repository.UserSettingsRepository;
 import lombok.RequiredArgsConstructor;
@@ -16,14 +15,14 @@ public class NotificationService {
   private final UserSettingsRepository userSettingsRepository;
 
   @Transactional(readOnly = true)
-  public NotificationSettingsResponse getNotificationSettings(User user) {
-    UserSettings settings = user.getUserSettings();
-    return NotificationSettingsResponse.from(settings);
+  public NotificationSettingsResponse getNotificationSettings(Long userId) {
+    return NotificationSettingsResponse.from(findSettings(userId));
   }
 
   @Transactional
-  public NotificationSettingsResponse updateNotificationSettings(User user, NotificationSettingsUpdateRequest request) {
-    UserSettings settings = user.getUserSettings();
+  public NotificationSettingsResponse updateNotificationSettings(Long userId, NotificationSettingsUpdateRequest request) {
+    // 인증 Principal은 엔티티를 담지 않으므로 트랜잭션 안에서 다시 조회한 설정만 변경
+    UserSettings settings = findSettings(userId);
     settings.updateNotificationSettings(
         request.smsNotificationEnabled(),
         request.emailNotificationEnabled(),
@@ -32,4 +31,9 @@ public class NotificationService {
     userSettingsRepository.save(settings);
     return NotificationSettingsResponse.from(settings);
   }
+
+  private UserSettings findSettings(Long userId) {
+    return userSettingsRepository.findByUserId(userId)
+        .orElseThrow(() -> new IllegalArgumentException("사용자 설정을 찾을 수 없습니다. user_id: " + userId));
+  }
 }
\ No newline at end of file
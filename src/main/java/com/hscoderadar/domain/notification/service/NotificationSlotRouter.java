@@ -0,0 +1,214 @@
+package com.hscoderadar.domain.notification.service;
+
+import com.hscoderadar.domain.user.repository.UserSettingsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 알림 발송 시간대 라우터
+ *
+ * <p>
+ * 파이썬 서버가 쌓은 알림(daily_notification:queue:)을 사용자의 알림 시간(notificationTime)과 주기(DAILY/WEEKLY)에 맞춰
+ * 발송 예정 ZSET(daily_notification:scheduled, score = 발송 예정 시각)으로 옮기고, 발송 시각이 된 알림만 발송 대기 목록
+ * (daily_notification:ready:)으로 넘김. 09:00 한 번에 몰리던 발송이 사용자별 시간대로 분산됨.
+ * <ul>
+ * <li>DAILY: 오늘 알림 시간 (이미 지났으면 즉시)</li>
+ * <li>WEEKLY: 이번 주 weekly-day의 알림 시간 (이미 지났으면 즉시)</li>
+ * <li>설정이 없거나 상세 정보가 없는 알림은 즉시 발송 대기 (발송 단계에서 실패 처리)</li>
+ * </ul>
+ * 큐에서 제거와 ZSET 등록은 Lua로 원자 처리되므로 여러 노드에서 동시에 실행해도 중복/유실이 없음
+ */
+@Slf4j
+@Service
+public class NotificationSlotRouter {
+
+  private static final String QUEUE_KEY = "daily_notification:queue:";
+  private static final String DETAIL_KEY_PREFIX = "daily_notification:detail:";
+  private static final String SCHEDULED_KEY = "daily_notification:scheduled";
+  /** 발송 대기 목록 키 (발송 서비스와 벤치마크가 같은 키를 사용) */
+  public static final String READY_KEY = "daily_notification:ready:";
+
+  /**
+   * KEYS = 큐, 예약 ZSET / ARGV = 큐 오른쪽 끝부터의 (발송 예정 시각, 작업 ID) 쌍 목록. 큐에서 제거한 작업만 예약.
+   * 작업은 큐 오른쪽 끝에서 읽었으므로 끝 요소와 같으면 RPOP(O(1))으로 제거하고, 다른 노드가 먼저 가져간 경우에만 오른쪽부터
+   * 탐색하는 LREM(count -1)을 사용함 (스크립트 실행 중에는 Redis 전체가 대기하므로 큐 길이에 비례하는 탐색을 피함)
+   */
+  private static final RedisScript<Long> SCHEDULE_SCRIPT = new DefaultRedisScript<>("""
+      local moved = 0
+      for i = 1, #ARGV, 2 do
+        local removed = 0
+        if redis.call('LINDEX', KEYS[1], -1) == ARGV[i + 1] then
+          redis.call('RPOP', KEYS[1])
+          removed = 1
+        else
+          removed = redis.call('LREM', KEYS[1], -1, ARGV[i + 1])
+        end
+        if removed > 0 then
+          redis.call('ZADD', KEYS[2], ARGV[i], ARGV[i + 1])
+          moved = moved + 1
+        end
+      end
+      return moved
+      """, Long.class);
+
+  /** KEYS = 예약 ZSET, 발송 대기 목록 / ARGV = 현재 시각(ms), 최대 개수 */
+  private static final RedisScript<Long> PROMOTE_SCRIPT = new DefaultRedisScript<>("""
+      local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+      for _, item in ipairs(due) do
+        redis.call('ZREM', KEYS[1], item)
+        redis.call('LPUSH', KEYS[2], item)
+      end
+      return #due
+      """, Long.class);
+
+  private final RedisTemplate<String, Object> queueRedisTemplate;
+  private final UserSettingsRepository userSettingsRepository;
+  private final ZoneId zone;
+  private final DayOfWeek weeklyDay;
+  private final int batchSize;
+
+  public NotificationSlotRouter(
+      @Qualifier("queueRedisTemplate") RedisTemplate<String, Object> queueRedisTemplate,
+      UserSettingsRepository userSettingsRepository,
+      @Value("${app.notification.schedule.zone:Asia/Seoul}") String zone,
+      @Value("${app.notification.schedule.weekly-day:MONDAY}") DayOfWeek weeklyDay,
+      @Value("${app.notification.dispatch.batch-size:200}") int batchSize) {
+    this.queueRedisTemplate = queueRedisTemplate;
+    this.userSettingsRepository = userSettingsRepository;
+    this.zone = ZoneId.of(zone);
+    this.weeklyDay = weeklyDay;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * 새로 쌓인 알림을 발송 예정 시각별로 예약
+   */
+  public void schedulePending() {
+    Long queueSize = queueRedisTemplate.opsForList().size(QUEUE_KEY);
+    if (queueSize == null || queueSize == 0) {
+      return;
+    }
+
+    long scheduled = 0;
+    for (long remaining = queueSize; remaining > 0; remaining -= batchSize) {
+      // 큐의 소비 방향(오른쪽)부터 읽음 (제거는 스크립트에서 수행)
+      List<Object> items = queueRedisTemplate.opsForList().range(QUEUE_KEY, -batchSize, -1);
+      if (items == null || items.isEmpty()) {
+        break;
+      }
+      List<String> taskIds = items.stream().map(String::valueOf).toList();
+
+      Map<String, Long> dueTimes = computeDueTimes(taskIds);
+      // 스크립트가 오른쪽 끝부터 제거하도록 역순으로 전달
+      List<Object> args = new ArrayList<>(taskIds.size() * 2);
+      for (int i = taskIds.size() - 1; i >= 0; i--) {
+        args.add(dueTimes.get(taskIds.get(i)));
+        args.add(taskIds.get(i));
+      }
+      Long moved = queueRedisTemplate.execute(SCHEDULE_SCRIPT, List.of(QUEUE_KEY, SCHEDULED_KEY), args.toArray());
+      if (moved == null || moved == 0) {
+        break;
+      }
+      scheduled += moved;
+    }
+
+    log.info("알림 {}건을 발송 시간대별로 예약", scheduled);
+  }
+
+  /**
+   * 발송 시각이 된 알림을 발송 대기 목록으로 이동 (예약 순서 유지)
+   *
+   * @return 이동한 알림 수
+   */
+  public long promoteDue() {
+    long now = System.currentTimeMillis();
+    long promoted = 0;
+    Long moved;
+    do {
+      moved = queueRedisTemplate.execute(PROMOTE_SCRIPT, List.of(SCHEDULED_KEY, READY_KEY), now, batchSize);
+      promoted += moved != null ? moved : 0;
+    } while (moved != null && moved == batchSize);
+
+    if (promoted > 0) {
+      log.info("발송 시각이 된 알림 {}건을 발송 대기 목록으로 이동", promoted);
+    }
+    return promoted;
+  }
+
+  /**
+   * 작업별 발송 예정 시각(epoch ms) 계산 (상세 정보의 user_id와 사용자 알림 설정 기준)
+   */
+  @SuppressWarnings("unchecked")
+  private Map<String, Long> computeDueTimes(List<String> taskIds) {
+    List<Object> userIds = queueRedisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      public <K, V> Object execute(RedisOperations<K, V> operations) {
+        RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+        for (String taskId : taskIds) {
+          ops.opsForHash().get(DETAIL_KEY_PREFIX + taskId, "user_id");
+        }
+        return null;
+      }
+    });
+
+    Map<String, Long> userIdByTask = new HashMap<>();
+    Set<Long> distinctUserIds = new HashSet<>();
+    for (int i = 0; i < taskIds.size(); i++) {
+      Object userId = userIds.get(i);
+      if (userId != null) {
+        try {
+          Long id = Long.valueOf(String.valueOf(userId));
+          userIdByTask.put(taskIds.get(i), id);
+          distinctUserIds.add(id);
+        } catch (NumberFormatException e) {
+          log.warn("알림 user_id 형식 오류: taskId={}", taskIds.get(i));
+        }
+      }
+    }
+
+    Map<Long, Long> dueByUser = new HashMap<>();
+    ZonedDateTime now = ZonedDateTime.now(zone);
+    if (!distinctUserIds.isEmpty()) {
+      for (Object[] row : userSettingsRepository.findNotificationScheduleByUserIdIn(distinctUserIds)) {
+        dueByUser.put((Long) row[0], dueTime(now, (String) row[1], (LocalTime) row[2]));
+      }
+    }
+
+    long immediate = now.toInstant().toEpochMilli();
+    Map<String, Long> dueTimes = new HashMap<>();
+    for (String taskId : taskIds) {
+      Long userId = userIdByTask.get(taskId);
+      dueTimes.put(taskId, userId != null ? dueByUser.getOrDefault(userId, immediate) : immediate);
+    }
+    return dueTimes;
+  }
+
+  private long dueTime(ZonedDateTime now, String frequency, LocalTime notificationTime) {
+    LocalDate date = now.toLocalDate();
+    if ("WEEKLY".equals(frequency)) {
+      date = date.with(TemporalAdjusters.nextOrSame(weeklyDay));
+    }
+    ZonedDateTime due = date.atTime(notificationTime != null ? notificationTime : LocalTime.of(9, 0)).atZone(zone);
+    return (due.isBefore(now) ? now : due).toInstant().toEpochMilli();
+  }
+}
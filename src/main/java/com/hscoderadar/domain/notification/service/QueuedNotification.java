@@ -0,0 +1,47 @@
+package com.hscoderadar.domain.notification.service;
+
+import com.hscoderadar.domain.notification.dto.request.NotificationRequest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 큐에서 꺼낸 알림 (Redis Hash 데이터)
+ * 요약 알림으로 합쳐진 경우 taskIds에 원본 작업 ID가 모두 들어감
+ *
+ * @param taskIds 작업 ID 목록 (첫 번째가 대표 ID)
+ * @param type    "EMAIL" 또는 "SMS"
+ * @param subject 제목 (없으면 기본 제목 사용)
+ */
+record QueuedNotification(
+    List<String> taskIds,
+    Long userId,
+    String type,
+    String subject,
+    String message) {
+
+  static QueuedNotification from(String taskId, Map<Object, Object> details) {
+    return new QueuedNotification(
+        List.of(taskId),
+        Long.parseLong((String) details.get("user_id")),
+        (String) details.get("type"),
+        (String) details.get("title"),
+        (String) details.get("message"));
+  }
+
+  /** 대표 작업 ID */
+  String taskId() {
+    return taskIds.get(0);
+  }
+
+  /** 발송 대상 연락처로 수신처를 채워 NotificationRequest DTO로 변환 */
+  NotificationRequest toRequest(NotificationRecipient recipient) {
+    return NotificationRequest.forPythonServer(
+        taskId(),
+        userId,
+        "EMAIL".equals(type) ? recipient.email() : null,
+        "SMS".equals(type) ? recipient.phoneNumber() : null,
+        subject != null ? subject : message,
+        message);
+  }
+}
@@ -0,0 +1,265 @@
+package com.hscoderadar.domain.notification.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 신뢰성 있는 알림 큐 (처리 중 목록 + 가시성 타임아웃)
+ *
+ * <p>
+ * 발송 대기 목록에서 꺼낸 작업을 바로 지우지 않고 노드별 처리 중 목록(daily_notification:processing:{node})으로 옮긴 뒤,
+ * 처리가 끝나면 확인(ack)하여 제거함. 처리 도중 노드가 죽더라도 작업이 유실되지 않으며 여러 노드가 동시에 큐를 비워도 안전함.
+ * <ul>
+ * <li>꺼내기: LMOVE로 처리 중 목록에 옮기고 가시성 기한(daily_notification:inflight, score = 기한)을 기록 (Lua로 원자 처리)</li>
+ * <li>기한 연장: 발송이 오래 걸리는 배치는 하위 배치(SMS 발송, 이메일 chunk)가 끝날 때마다 기한을 다시 설정하여 발송 중인 작업이 회수되지 않도록 함</li>
+ * <li>리퍼: 기한이 지난 작업을 큐에 다시 넣고, 재시도 횟수가 max-attempts에 도달하면 dead-letter 목록으로 이동</li>
+ * <li>일시적 실패(DB, Redis 오류 등)는 재시도 횟수를 올려 큐 뒤에 다시 넣고, max-attempts에 도달하면 dead-letter 목록으로 이동</li>
+ * <li>영구 실패(사용자 없음 등)는 재시도 없이 dead-letter 목록으로 이동하며 상세 정보는 확인용으로 남겨둠</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ReliableNotificationQueue {
+
+  private static final String QUEUE_KEY = NotificationSlotRouter.READY_KEY;
+  private static final String DETAIL_KEY_PREFIX = "daily_notification:detail:";
+  private static final String PROCESSING_KEY_PREFIX = "daily_notification:processing:";
+  private static final String INFLIGHT_KEY = "daily_notification:inflight";
+  private static final String OWNER_KEY = "daily_notification:inflight_owner";
+  private static final String ATTEMPTS_KEY = "daily_notification:attempts";
+  private static final String DEAD_LETTER_KEY = "daily_notification:dead_letter:";
+
+  /** KEYS = 큐, 처리 중 목록, 기한 ZSET, 소유 Hash / ARGV = 최대 개수, 가시성 기한(ms) */
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+      local items = {}
+      for i = 1, tonumber(ARGV[1]) do
+        local item = redis.call('LMOVE', KEYS[1], KEYS[2], 'RIGHT', 'LEFT')
+        if not item then break end
+        redis.call('ZADD', KEYS[3], ARGV[2], item)
+        redis.call('HSET', KEYS[4], item, KEYS[2])
+        items[#items + 1] = item
+      end
+      return items
+      """, List.class);
+
+  /** KEYS = 기한 ZSET, 소유 Hash, 재시도 Hash, (선택) dead-letter 목록 / ARGV = 작업 ID 목록 */
+  private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+      for _, item in ipairs(ARGV) do
+        local owner = redis.call('HGET', KEYS[2], item)
+        if owner then redis.call('LREM', owner, 1, item) end
+        redis.call('ZREM', KEYS[1], item)
+        redis.call('HDEL', KEYS[2], item)
+        redis.call('HDEL', KEYS[3], item)
+        if KEYS[4] then redis.call('LPUSH', KEYS[4], item) end
+      end
+      return #ARGV
+      """, Long.class);
+
+  /** KEYS = 기한 ZSET / ARGV = 새 가시성 기한(ms), 작업 ID 목록 (아직 처리 중인 작업만 갱신) */
+  private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+      local renewed = 0
+      for i = 2, #ARGV do
+        renewed = renewed + redis.call('ZADD', KEYS[1], 'XX', 'CH', ARGV[1], ARGV[i])
+      end
+      return renewed
+      """, Long.class);
+
+  /** KEYS = 기한 ZSET, 소유 Hash, 재시도 Hash, 큐, dead-letter 목록 / ARGV = 최대 시도 횟수, 작업 ID 목록 */
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> RETRY_SCRIPT = new DefaultRedisScript<>("""
+      local requeued, dead = 0, 0
+      for i = 2, #ARGV do
+        local item = ARGV[i]
+        local owner = redis.call('HGET', KEYS[2], item)
+        if owner then
+          redis.call('LREM', owner, 1, item)
+          redis.call('ZREM', KEYS[1], item)
+          redis.call('HDEL', KEYS[2], item)
+          if redis.call('HINCRBY', KEYS[3], item, 1) >= tonumber(ARGV[1]) then
+            redis.call('HDEL', KEYS[3], item)
+            redis.call('LPUSH', KEYS[5], item)
+            dead = dead + 1
+          else
+            redis.call('LPUSH', KEYS[4], item)
+            requeued = requeued + 1
+          end
+        end
+      end
+      return {requeued, dead}
+      """, List.class);
+
+  /** KEYS = 기한 ZSET, 소유 Hash, 재시도 Hash, 큐, dead-letter 목록 / ARGV = 현재 시각(ms), 최대 시도 횟수, 최대 처리 개수 */
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> REAP_SCRIPT = new DefaultRedisScript<>("""
+      local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[3])
+      local requeued, dead = 0, 0
+      for _, item in ipairs(expired) do
+        local owner = redis.call('HGET', KEYS[2], item)
+        if owner then redis.call('LREM', owner, 1, item) end
+        redis.call('ZREM', KEYS[1], item)
+        redis.call('HDEL', KEYS[2], item)
+        if redis.call('HINCRBY', KEYS[3], item, 1) >= tonumber(ARGV[2]) then
+          redis.call('HDEL', KEYS[3], item)
+          redis.call('LPUSH', KEYS[5], item)
+          dead = dead + 1
+        else
+          redis.call('RPUSH', KEYS[4], item)
+          requeued = requeued + 1
+        end
+      end
+      return {requeued, dead}
+      """, List.class);
+
+  private final RedisTemplate<String, Object> queueRedisTemplate;
+  private final boolean enabled;
+  private final Duration visibilityTimeout;
+  private final int maxAttempts;
+  private final String processingKey;
+
+  public ReliableNotificationQueue(
+      @Qualifier("queueRedisTemplate") RedisTemplate<String, Object> queueRedisTemplate,
+      @Value("${app.notification.queue.reliable.enabled:false}") boolean enabled,
+      @Value("${app.notification.queue.reliable.visibility-timeout:600}") long visibilityTimeoutSeconds,
+      @Value("${app.notification.queue.reliable.max-attempts:3}") int maxAttempts) {
+    this.queueRedisTemplate = queueRedisTemplate;
+    this.enabled = enabled;
+    this.visibilityTimeout = Duration.ofSeconds(visibilityTimeoutSeconds);
+    this.maxAttempts = maxAttempts;
+    // 노드(프로세스)별 처리 중 목록 (pid@host)
+    this.processingKey = PROCESSING_KEY_PREFIX + ManagementFactory.getRuntimeMXBean().getName();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 큐에서 작업을 꺼내 이 노드의 처리 중 목록으로 이동
+   *
+   * @param count 최대 개수
+   * @return 꺼낸 작업 ID 목록 (큐 순서)
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public List<String> claim(int count) {
+    long deadline = System.currentTimeMillis() + visibilityTimeout.toMillis();
+    // 숫자 인자는 문자열로, 결과(작업 ID)는 큐 값 직렬화 방식으로 변환
+    List<?> items = queueRedisTemplate.execute(
+        CLAIM_SCRIPT,
+        StringRedisSerializer.UTF_8,
+        (RedisSerializer) queueRedisTemplate.getValueSerializer(),
+        List.of(QUEUE_KEY, processingKey, INFLIGHT_KEY, OWNER_KEY),
+        String.valueOf(count), String.valueOf(deadline));
+    return items == null ? List.of() : items.stream().map(String::valueOf).toList();
+  }
+
+  /**
+   * 처리 완료된 작업 확인 (처리 중 목록과 상세 정보 삭제)
+   *
+   * @param taskIds 작업 ID 목록
+   */
+  public void ack(Collection<String> taskIds) {
+    if (taskIds.isEmpty()) {
+      return;
+    }
+    queueRedisTemplate.execute(
+        RELEASE_SCRIPT, List.of(INFLIGHT_KEY, OWNER_KEY, ATTEMPTS_KEY), taskIds.toArray());
+    queueRedisTemplate.delete(taskIds.stream().map(taskId -> DETAIL_KEY_PREFIX + taskId).toList());
+  }
+
+  /**
+   * 처리 중인 작업의 가시성 기한을 현재 시각 + visibility-timeout으로 연장 (이미 확인되었거나 회수된 작업은 무시)
+   *
+   * @param taskIds 작업 ID 목록
+   */
+  public void extend(Collection<String> taskIds) {
+    if (taskIds.isEmpty()) {
+      return;
+    }
+    Object[] args = new Object[taskIds.size() + 1];
+    args[0] = System.currentTimeMillis() + visibilityTimeout.toMillis();
+    int i = 1;
+    for (String taskId : taskIds) {
+      args[i++] = taskId;
+    }
+    queueRedisTemplate.execute(EXTEND_SCRIPT, List.of(INFLIGHT_KEY), args);
+  }
+
+  /**
+   * 일시적 오류로 처리하지 못한 작업을 재시도 횟수를 올려 큐 뒤에 다시 넣음 (max-attempts에 도달하면 dead-letter 목록으로 이동)
+   *
+   * @param taskIds 작업 ID 목록
+   */
+  @SuppressWarnings("rawtypes")
+  public void retry(Collection<String> taskIds) {
+    if (taskIds.isEmpty()) {
+      return;
+    }
+    Object[] args = new Object[taskIds.size() + 1];
+    args[0] = maxAttempts;
+    int i = 1;
+    for (String taskId : taskIds) {
+      args[i++] = taskId;
+    }
+    List result = queueRedisTemplate.execute(
+        RETRY_SCRIPT, List.of(INFLIGHT_KEY, OWNER_KEY, ATTEMPTS_KEY, QUEUE_KEY, DEAD_LETTER_KEY), args);
+    if (result != null && result.size() == 2) {
+      log.warn("일시적 오류로 알림 작업 재시도: 재시도 {}건, dead-letter {}건", result.get(0), result.get(1));
+    }
+  }
+
+  /**
+   * 재시도해도 성공할 수 없는 작업을 dead-letter 목록으로 이동 (상세 정보는 유지)
+   *
+   * @param taskIds 작업 ID 목록
+   */
+  public void deadLetter(Collection<String> taskIds) {
+    if (taskIds.isEmpty()) {
+      return;
+    }
+    queueRedisTemplate.execute(
+        RELEASE_SCRIPT, List.of(INFLIGHT_KEY, OWNER_KEY, ATTEMPTS_KEY, DEAD_LETTER_KEY), taskIds.toArray());
+    log.warn("알림 작업 {}건을 dead-letter 목록으로 이동: {}", taskIds.size(), taskIds);
+  }
+
+  /**
+   * 가시성 기한이 지난 작업 회수 (다른 노드의 작업 포함, 스크립트 단위로 원자 처리되어 여러 노드에서 동시에 실행해도 안전)
+   */
+  @Scheduled(fixedDelayString = "${app.notification.queue.reliable.reaper-interval-ms:60000}")
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public void reapExpired() {
+    if (!enabled) {
+      return;
+    }
+    try {
+      List<?> result = queueRedisTemplate.execute(
+          REAP_SCRIPT,
+          StringRedisSerializer.UTF_8,
+          (RedisSerializer) StringRedisSerializer.UTF_8,
+          List.of(INFLIGHT_KEY, OWNER_KEY, ATTEMPTS_KEY, QUEUE_KEY, DEAD_LETTER_KEY),
+          String.valueOf(System.currentTimeMillis()), String.valueOf(maxAttempts), "1000");
+      if (result != null && result.size() == 2) {
+        long requeued = ((Number) result.get(0)).longValue();
+        long dead = ((Number) result.get(1)).longValue();
+        if (requeued > 0 || dead > 0) {
+          log.warn("처리 기한이 지난 알림 작업 회수: 재시도 {}건, dead-letter {}건", requeued, dead);
+        }
+      }
+    } catch (Exception e) {
+      log.error("알림 작업 회수 실패: {}", e.getMessage());
+    }
+  }
+}
@@ -1,17 +1,49 @@
 package com.hscoderadar.domain.notification.service;
 
+import com.hscoderadar.common.ratelimit.OutboundRateGovernor;
+import com.hscoderadar.domain.notification.dto.request.EmailMessage;
+import com.hscoderadar.domain.notification.dto.response.EmailSendResult;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSenderFailedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SmtpEmailService implements EmailService {
 
+    private static final String DIGEST_TEMPLATE = "daily-digest";
+
     private final JavaMailSender mailSender;
+    private final EmailTemplateRenderer templateRenderer;
+    private final OutboundRateGovernor rateGovernor;
+
+    @Value("${spring.mail.username:}")
+    private String from;
+
+    // SMTP 연결 1회당 발송할 최대 메일 수
+    @Value("${app.mail.batch-size:50}")
+    private int batchSize;
 
     @Override
     public void sendEmail(String to, String subject, String content) {
@@ -26,4 +58,161 @@ public class SmtpEmailService implements EmailService {
             log.error("이메일 발송 실패: to={}, error={}", to, e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * batch-size 단위로 나누어 JavaMailSender.send(MimeMessage...)로 발송 (한 번의 호출은 하나의 SMTP 연결로 처리됨)
+     */
+    @Override
+    public List<EmailSendResult> sendBatch(List<EmailMessage> messages) {
+        List<EmailSendResult> results = new ArrayList<>(messages.size());
+        for (int start = 0; start < messages.size(); start += batchSize) {
+            results.addAll(sendChunk(messages.subList(start, Math.min(start + batchSize, messages.size()))));
+        }
+        return results;
+    }
+
+    /**
+     * batch-size 단위로 나누어 각 묶음을 executor에서 병렬 발송 (묶음마다 하나의 SMTP 연결 사용)
+     */
+    @Override
+    public CompletableFuture<Void> sendBatch(List<EmailMessage> messages, Executor executor,
+            BiConsumer<Integer, List<EmailSendResult>> onChunkSent) {
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int start = 0; start < messages.size(); start += batchSize) {
+            int offset = start;
+            List<EmailMessage> chunk = messages.subList(start, Math.min(start + batchSize, messages.size()));
+            chunks.add(CompletableFuture.runAsync(() -> onChunkSent.accept(offset, sendChunk(chunk)), executor));
+        }
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new));
+    }
+
+    private List<EmailSendResult> sendChunk(List<EmailMessage> chunk) {
+        EmailSendResult[] results = new EmailSendResult[chunk.size()];
+        List<MimeMessage> mimeMessages = new ArrayList<>(chunk.size());
+        Map<MimeMessage, Integer> indexByMessage = new IdentityHashMap<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            EmailMessage message = chunk.get(i);
+            try {
+                MimeMessage mimeMessage = toMimeMessage(message);
+                mimeMessages.add(mimeMessage);
+                indexByMessage.put(mimeMessage, i);
+            } catch (Exception e) {
+                results[i] = EmailSendResult.failed(message.to(), "메일 생성 실패: " + e.getMessage());
+            }
+        }
+
+        // 서버가 일시적으로 거부(4xx, 연결 실패)한 메일만 속도를 낮춰 재시도 (이미 접수된 메일은 재발송하지 않음)
+        List<MimeMessage> pending = mimeMessages;
+        for (int attempt = 0; !pending.isEmpty(); attempt++) {
+            rateGovernor.acquire(OutboundRateGovernor.Provider.EMAIL, pending.size());
+            try {
+                mailSender.send(pending.toArray(MimeMessage[]::new));
+                rateGovernor.onSuccess(OutboundRateGovernor.Provider.EMAIL, pending.size());
+                break;
+            } catch (MailSendException e) {
+                // 메일별 실패 정보 (연결 실패 시 모든 메일이 포함됨)
+                if (e.getFailedMessages().isEmpty()) {
+                    fillFailed(results, chunk, pending, indexByMessage, e);
+                    break;
+                }
+                List<MimeMessage> retry = new ArrayList<>();
+                for (Map.Entry<Object, Exception> failure : e.getFailedMessages().entrySet()) {
+                    Integer index = indexByMessage.get(failure.getKey());
+                    if (index == null) {
+                        continue;
+                    }
+                    if (attempt < rateGovernor.maxRetries() && isThrottled(failure.getValue())) {
+                        retry.add((MimeMessage) failure.getKey());
+                    } else if (isThrottled(failure.getValue())) {
+                        // 재시도를 모두 소진한 일시 거부: 접수되지 않았으므로 알림 작업 단위로 다시 시도할 수 있음
+                        results[index] = EmailSendResult.retryable(chunk.get(index).to(), failure.getValue().getMessage());
+                    } else {
+                        results[index] = EmailSendResult.failed(chunk.get(index).to(), failure.getValue().getMessage());
+                    }
+                }
+                int accepted = pending.size() - e.getFailedMessages().size();
+                if (accepted > 0) {
+                    rateGovernor.onSuccess(OutboundRateGovernor.Provider.EMAIL, accepted);
+                }
+                if (!retry.isEmpty()) {
+                    rateGovernor.onThrottled(OutboundRateGovernor.Provider.EMAIL, retry.size());
+                    log.warn("SMTP 서버 제한 감지, {}건 재시도 {}/{}", retry.size(), attempt + 1, rateGovernor.maxRetries());
+                    rateGovernor.backoff(attempt);
+                }
+                pending = retry;
+            } catch (Exception e) {
+                // 인증 실패 등 연결 단위 오류
+                fillFailed(results, chunk, pending, indexByMessage, e);
+                break;
+            }
+        }
+
+        int failed = 0;
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = EmailSendResult.sent(chunk.get(i).to());
+            } else if (!results[i].success()) {
+                failed++;
+            }
+        }
+        log.info("이메일 일괄 발송 결과: 요청 {}건, 실패 {}건", chunk.size(), failed);
+        return List.of(results);
+    }
+
+    private MimeMessage toMimeMessage(EmailMessage message) throws Exception {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, StandardCharsets.UTF_8.name());
+        if (!from.isBlank()) {
+            helper.setFrom(from);
+        }
+        helper.setTo(message.to());
+        helper.setSubject(message.subject());
+        helper.setText(message.content(), templateRenderer.render(DIGEST_TEMPLATE,
+                Map.of("title", message.subject(), "content", message.content())));
+        return mimeMessage;
+    }
+
+    /**
+     * 재시도 대상 오류 판정: SMTP 4xx 응답(421, 450, 451, 452 등 일시 거부)과 연결 실패
+     */
+    private static boolean isThrottled(Exception e) {
+        for (Throwable cause = e; cause != null; cause = nextCause(cause)) {
+            int returnCode = switch (cause) {
+                case SMTPSendFailedException failed -> failed.getReturnCode();
+                case SMTPAddressFailedException failed -> failed.getReturnCode();
+                case SMTPSenderFailedException failed -> failed.getReturnCode();
+                default -> 0;
+            };
+            if (returnCode >= 400 && returnCode < 500 || cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Throwable nextCause(Throwable cause) {
+        // MessagingException은 getNextException()으로 원인을 연결함
+        if (cause instanceof MessagingException messaging && messaging.getNextException() != null) {
+            return messaging.getNextException();
+        }
+        return cause.getCause() != cause ? cause.getCause() : null;
+    }
+
+    /**
+     * 이번 시도에서 보내지 못한 메일(pending)을 실패로 기록 (이전 시도에서 접수된 메일은 제외)
+     * 연결 실패 등 일시적 오류이면 재시도 가능으로 기록
+     */
+    private void fillFailed(EmailSendResult[] results, List<EmailMessage> chunk, List<MimeMessage> pending,
+            Map<MimeMessage, Integer> indexByMessage, Exception e) {
+        boolean retryable = isThrottled(e);
+        for (MimeMessage message : pending) {
+            Integer index = indexByMessage.get(message);
+            if (index != null && results[index] == null) {
+                results[index] = retryable
+                        ? EmailSendResult.retryable(chunk.get(index).to(), e.getMessage())
+                        : EmailSendResult.failed(chunk.get(index).to(), e.getMessage());
+            }
+        }
+    }
+}
@@ -7,7 +7,6 @@ import com.hscoderadar.domain.auth.service.AuthService;
 import com.hscoderadar.domain.sms.dto.request.SmsSendRequest;
 import com.hscoderadar.domain.sms.dto.request.SmsVerifyRequest;
 import com.hscoderadar.domain.sms.service.SmsService;
-import com.hscoderadar.domain.user.entity.User;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -55,12 +54,12 @@ public class SmsController {
     boolean isVerified = smsService.verifyCode(request.to(), request.code());
 
     if (isVerified) {
-      User user = principalDetails.getUser();
-      authService.completePhoneVerification(user.getId(), request.to());
-      log.info("휴대폰 인증 성공: userId={}, phoneNumber={}", user.getId(), request.to());
+      Long userId = principalDetails.getUserId();
+      authService.completePhoneVerification(userId, request.to());
+      log.info("휴대폰 인증 성공: userId={}, phoneNumber={}", userId, request.to());
       return "휴대폰 인증이 성공적으로 완료되었습니다.";
     } else {
-      log.warn("휴대폰 인증 실패: userId={}", principalDetails.getUser().getId());
+      log.warn("휴대폰 인증 실패: userId={}", principalDetails.getUserId());
       return "휴대폰 인증에 실패했습니다."; 
     }
   }
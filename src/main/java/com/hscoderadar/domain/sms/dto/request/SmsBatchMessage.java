@@ -0,0 +1,10 @@
+package com.hscoderadar.domain.sms.dto.request;
+
+/**
+ * 일괄 발송용 SMS 메시지
+ * 
+ * @param to      수신자 전화번호
+ * @param content 메시지 내용
+ */
+public record SmsBatchMessage(String to, String content) {
+}
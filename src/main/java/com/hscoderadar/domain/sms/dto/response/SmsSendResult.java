@@ -0,0 +1,26 @@
+package com.hscoderadar.domain.sms.dto.response;
+
+/**
+ * 메시지별 SMS 발송 결과
+ * 
+ * @param to           수신자 전화번호
+ * @param success      접수 성공 여부
+ * @param messageId    제공사 메시지 ID (실패 시 null일 수 있음)
+ * @param errorMessage 실패 사유 (성공 시 null)
+ * @param retryable    접수되지 않은 것이 확실한 일시적 오류(요청 한도 초과, 서버 오류, 연결 실패)로 다시 시도할 수 있는지 여부
+ *                     (접수 여부를 알 수 없는 경우는 중복 발송을 막기 위해 false)
+ */
+public record SmsSendResult(String to, boolean success, String messageId, String errorMessage, boolean retryable) {
+
+  public static SmsSendResult sent(String to, String messageId) {
+    return new SmsSendResult(to, true, messageId, null, false);
+  }
+
+  public static SmsSendResult failed(String to, String messageId, String errorMessage) {
+    return new SmsSendResult(to, false, messageId, errorMessage, false);
+  }
+
+  public static SmsSendResult retryable(String to, String errorMessage) {
+    return new SmsSendResult(to, false, null, errorMessage, true);
+  }
+}
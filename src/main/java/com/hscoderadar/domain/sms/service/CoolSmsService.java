@@ -1,19 +1,37 @@
 package com.hscoderadar.domain.sms.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hscoderadar.common.exception.SmsException;
+import com.hscoderadar.common.ratelimit.OutboundRateGovernor;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.hscoderadar.domain.sms.dto.request.SmsBatchMessage;
+import com.hscoderadar.domain.sms.dto.response.SmsSendResult;
 import net.nurigo.sdk.NurigoApp;
+import net.nurigo.sdk.message.exception.NurigoEmptyResponseException;
+import net.nurigo.sdk.message.exception.NurigoMessageNotReceivedException;
+import net.nurigo.sdk.message.exception.NurigoUnknownException;
+import net.nurigo.sdk.message.model.FailedMessage;
 import net.nurigo.sdk.message.model.Message;
 import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
+import net.nurigo.sdk.message.response.MultipleDetailMessageSentResponse;
 import net.nurigo.sdk.message.response.SingleMessageSentResponse;
 import net.nurigo.sdk.message.service.DefaultMessageService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -30,10 +48,22 @@ public class CoolSmsService implements SmsService {
     @Value("${app.sms.sender-number}")
     private String senderNumber;
 
+    // 1회 요청당 최대 메시지 수 (CoolSMS 다건 발송 한도 이내)
+    @Value("${app.sms.batch-size:1000}")
+    private int batchSize;
+
+    // 재시도할 CoolSMS 오류 코드 (요청 한도 초과, 서버 오류 등 접수 전에 거부된 경우만)
+    @Value("${app.sms.retryable-error-codes:TooManyRequests,InternalError,ServiceUnavailable}")
+    private List<String> retryableErrorCodes;
+
     private DefaultMessageService messageService;
     private final StringRedisTemplate redisTemplate;
+    private final OutboundRateGovernor rateGovernor;
+    private final ObjectMapper objectMapper;
     private static final String VERIFICATION_CODE_PREFIX = "sms:verification:";
     private static final long VERIFICATION_CODE_EXPIRATION_MINUTES = 5;
+    private static final String SUCCESS_STATUS_CODE = "2000";
+    private static final String BATCH_INDEX_FIELD = "batchIndex";
 
     @PostConstruct
     protected void init() {
@@ -101,6 +131,147 @@ public class CoolSmsService implements SmsService {
         }
     }
 
+    @Override
+    public List<SmsSendResult> sendBatch(List<SmsBatchMessage> messages) {
+        List<SmsSendResult> results = new ArrayList<>(messages.size());
+        for (int from = 0; from < messages.size(); from += batchSize) {
+            results.addAll(sendChunk(messages.subList(from, Math.min(from + batchSize, messages.size()))));
+        }
+        return results;
+    }
+
+    /**
+     * 메시지 묶음을 한 번의 요청으로 발송하고, customFields에 넣은 순번으로 메시지별 결과를 매핑
+     */
+    private List<SmsSendResult> sendChunk(List<SmsBatchMessage> chunk) {
+        List<Message> messages = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Message message = new Message();
+            message.setFrom(senderNumber);
+            message.setTo(chunk.get(i).to());
+            message.setText(chunk.get(i).content());
+            message.setCustomFields(Map.of(BATCH_INDEX_FIELD, String.valueOf(i)));
+            messages.add(message);
+        }
+
+        SmsSendResult[] results = new SmsSendResult[chunk.size()];
+        String unknownReason = "발송 결과를 확인할 수 없음";
+        boolean retryable = false;
+        try {
+            // showMessageList=true: 응답에 메시지별 접수 결과(messageList)를 포함해야 순번별 결과 매핑 가능
+            MultipleDetailMessageSentResponse response = rateGovernor.execute(OutboundRateGovernor.Provider.SMS,
+                    messages.size(), () -> this.messageService.send(messages, false, true), this::isRetryable);
+            if (response.getMessageList() != null) {
+                for (MultipleDetailMessageSentResponse.MessageList sent : response.getMessageList()) {
+                    int index = batchIndex(sent.getCustomFields(), chunk.size());
+                    if (index >= 0) {
+                        results[index] = SUCCESS_STATUS_CODE.equals(sent.getStatusCode())
+                                ? SmsSendResult.sent(chunk.get(index).to(), sent.getMessageId())
+                                : SmsSendResult.failed(chunk.get(index).to(), sent.getMessageId(), sent.getStatusMessage());
+                    }
+                }
+            }
+            fillFailed(results, chunk, response.getFailedMessageList());
+            log.info("SMS 일괄 발송 결과: 요청 {}건, 실패 {}건", chunk.size(),
+                    response.getFailedMessageList() != null ? response.getFailedMessageList().size() : 0);
+        } catch (NurigoMessageNotReceivedException e) {
+            // 모든 메시지 접수 실패
+            fillFailed(results, chunk, e.getFailedMessageList());
+            log.error("SMS 일괄 발송 실패: {}건, error={}", chunk.size(), e.getMessage());
+        } catch (NurigoEmptyResponseException e) {
+            // 2xx 빈 응답: 그룹은 이미 접수되었을 수 있으므로 재발송하지 않고 결과 불명으로 기록
+            unknownReason = "접수 여부 확인 불가 (빈 응답)";
+            log.error("SMS 일괄 발송 결과 불명: {}건, error={}", chunk.size(), e.getMessage());
+        } catch (Exception e) {
+            if (isRetryable(e)) {
+                // 재시도를 모두 소진한 일시적 오류: 접수되지 않았으므로 알림 작업 단위로 다시 시도할 수 있음
+                retryable = true;
+                unknownReason = "일시적 오류: " + e.getMessage();
+                log.error("SMS 일괄 발송 일시 실패: {}건, error={}", chunk.size(), e.getMessage());
+            } else if (e instanceof IOException) {
+                // 요청 전송 후 응답 대기 중 오류(읽기 타임아웃 등): 접수되었을 수 있음
+                unknownReason = "접수 여부 확인 불가 (응답 수신 실패)";
+                log.error("SMS 일괄 발송 결과 불명: {}건, error={}", chunk.size(), e.getMessage());
+            } else {
+                log.error("SMS 일괄 발송 실패: {}건, error={}", chunk.size(), e.getMessage());
+            }
+        }
+
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = retryable
+                        ? SmsSendResult.retryable(chunk.get(i).to(), unknownReason)
+                        : SmsSendResult.failed(chunk.get(i).to(), null, unknownReason);
+            }
+        }
+        return List.of(results);
+    }
+
+    /**
+     * 재시도(및 감속) 대상 오류 판정: 요청이 접수되지 않았음이 확실한 경우만 재시도
+     * <ul>
+     * <li>SDK는 2xx가 아닌 모든 응답을 HTTP 상태 없이 오류 본문만 담아 NurigoUnknownException으로 던지므로, 본문의 errorCode가
+     * retryable-error-codes에 있거나 본문이 JSON이 아닌 경우(게이트웨이 5xx)만 재시도</li>
+     * <li>연결 단계 실패(연결 거부, 호스트 조회 실패, 연결 타임아웃)는 요청이 전달되지 않았으므로 재시도</li>
+     * </ul>
+     * 빈 응답(2xx), 읽기 타임아웃 등 요청 전달 이후의 오류는 재시도하면 중복 발송(유료)될 수 있고, 400/401/403 등은 재시도해도 같은
+     * 결과이므로 재시도하지 않음
+     */
+    private boolean isRetryable(Exception e) {
+        if (e instanceof NurigoUnknownException) {
+            String errorCode = errorCode(e.getMessage());
+            return errorCode == null || retryableErrorCodes.contains(errorCode);
+        }
+        return isConnectFailure(e);
+    }
+
+    /** 오류 본문의 errorCode (JSON이 아니면 null) */
+    private String errorCode(String body) {
+        if (body == null || !body.trim().startsWith("{")) {
+            return null;
+        }
+        try {
+            JsonNode errorCode = objectMapper.readTree(body).get("errorCode");
+            // JSON 본문은 API 서버의 응답이므로 errorCode가 없으면 재시도하지 않음
+            return errorCode != null ? errorCode.asText() : "";
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private static boolean isConnectFailure(Exception e) {
+        if (e instanceof ConnectException || e instanceof UnknownHostException || e instanceof NoRouteToHostException) {
+            return true;
+        }
+        return e instanceof SocketTimeoutException
+                && e.getMessage() != null
+                && e.getMessage().toLowerCase().contains("connect timed out");
+    }
+
+    private void fillFailed(SmsSendResult[] results, List<SmsBatchMessage> chunk, List<FailedMessage> failedMessages) {
+        if (failedMessages == null) {
+            return;
+        }
+        for (FailedMessage failed : failedMessages) {
+            int index = batchIndex(failed.getCustomFields(), chunk.size());
+            if (index >= 0) {
+                results[index] = SmsSendResult.failed(chunk.get(index).to(), failed.getMessageId(), failed.getStatusMessage());
+            }
+        }
+    }
+
+    private int batchIndex(Map<String, String> customFields, int size) {
+        if (customFields == null || customFields.get(BATCH_INDEX_FIELD) == null) {
+            return -1;
+        }
+        try {
+            int index = Integer.parseInt(customFields.get(BATCH_INDEX_FIELD));
+            return index >= 0 && index < size ? index : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     private String generateVerificationCode() {
         SecureRandom random = new SecureRandom();
         int num = random.nextInt(900000) + 100000; // 100000 ~ 999999
@@ -1,5 +1,10 @@
 package com.hscoderadar.domain.sms.service;
 
+import com.hscoderadar.domain.sms.dto.request.SmsBatchMessage;
+import com.hscoderadar.domain.sms.dto.response.SmsSendResult;
+
+import java.util.List;
+
 public interface SmsService {
     /**
      * 지정된 번호로 인증 코드를 발송
@@ -22,4 +27,12 @@ public interface SmsService {
      * @param content 발송할 메시지 내용
      */
     void sendMessage(String to, String content);
+
+    /**
+     * 여러 메시지를 제공사 1회 요청 한도 단위로 묶어서 발송
+     * 개별 메시지의 실패는 예외 대신 결과로 반환
+     * @param messages 발송할 메시지 목록
+     * @return 메시지별 발송 결과 (입력 순서와 동일)
+     */
+    List<SmsSendResult> sendBatch(List<SmsBatchMessage> messages);
 }
\ No newline at end of file
@@ -34,7 +34,7 @@ public class UserController {
             @AuthenticationPrincipal PrincipalDetails principalDetails,
             @Valid @RequestBody UserUpdateRequest request) {
 
-        userService.updateProfile(principalDetails.getUser().getId(), request);
+        userService.updateProfile(principalDetails.getUserId(), request);
 
         return "프로필이 성공적으로 업데이트되었습니다.";
     }
@@ -42,7 +42,7 @@ public class UserController {
     @DeleteMapping("/leave")
     public String deleteUser(@AuthenticationPrincipal PrincipalDetails principalDetails) {
 
-        userService.deleteMe(principalDetails.getUser().getId());
+        userService.deleteMe(principalDetails.getUserId());
 
         return "회원 탈퇴에 성공하였습니다.";
     }
@@ -2,6 +2,7 @@ package com.hscoderadar.domain.user.repository;
 
 import com.hscoderadar.domain.user.entity.User;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -85,6 +86,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
           + "WHERE us.emailNotificationEnabled = true")
   List<User> findUsersWithEnabledEmailNotification();
 
+  /**
+   * 알림 발송 대상 연락처와 채널 설정 일괄 조회 (엔티티를 로딩하지 않음)
+   *
+   * @return [userId, email, phoneNumber, phoneVerified, settingsId, smsNotificationEnabled,
+   *     emailNotificationEnabled] 목록 (설정이 없으면 settingsId 이후 null)
+   */
+  @Query(
+      "SELECT u.id, u.email, u.phoneNumber, u.phoneVerified, "
+          + "us.id, us.smsNotificationEnabled, us.emailNotificationEnabled "
+          + "FROM User u LEFT JOIN u.userSettings us WHERE u.id IN :ids")
+  List<Object[]> findNotificationRecipientsByIdIn(@Param("ids") Collection<Long> ids);
+
   // 관리자용 통계 메서드
 
   /** OAuth 전용 사용자 수 조회 */
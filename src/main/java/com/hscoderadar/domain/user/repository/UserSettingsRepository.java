@@ -3,6 +3,7 @@ package com.hscoderadar.domain.user.repository;
 import com.hscoderadar.domain.user.entity.User;
 import com.hscoderadar.domain.user.entity.UserSettings;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -87,6 +88,12 @@ public interface UserSettingsRepository extends JpaRepository<UserSettings, Long
   List<UserSettings> findForScheduledNotification(
       @Param("frequency") String frequency, @Param("time") LocalTime time);
 
+  /** 사용자별 알림 주기와 시간 일괄 조회 (알림 발송 시간대 라우팅용, [userId, frequency, time]) */
+  @Query(
+      "SELECT us.user.id, us.notificationFrequency, us.notificationTime FROM UserSettings us "
+          + "WHERE us.user.id IN :userIds")
+  List<Object[]> findNotificationScheduleByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
   // 통계 조회 메서드
 
   /** SMS 알림 활성화 사용자 수 조회 */
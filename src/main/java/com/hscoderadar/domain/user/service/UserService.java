@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import com.hscoderadar.config.jwt.PrincipalCache;
 import com.hscoderadar.domain.user.dto.UserUpdateRequest;
 import com.hscoderadar.domain.user.entity.User;
 import com.hscoderadar.domain.user.repository.UserRepository;
@@ -16,6 +17,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     /**
      * 사용자 프로필 정보(이름, 비밀번호)를 수정
@@ -46,6 +48,9 @@ public class UserService {
 
             // 비밀번호를 암호화하여 업데이트
             user.updatePasswordHash(passwordEncoder.encode(request.newPassword()));
+
+            // 비밀번호가 바뀌면 기존 인증 정보를 캐시에서 제거
+            principalCache.invalidate(user.getEmail());
         }
     }
 
@@ -54,5 +59,6 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없습니다. id=" + userId));
         userRepository.delete(user);
+        principalCache.invalidate(user.getEmail());
     }
 }
@@ -0,0 +1,81 @@
+package com.hscoderadar.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.module.jakarta.xmlbind.JakartaXmlBindAnnotationModule;
+import com.hscoderadar.domain.customs.dto.CargoClearanceProgressResponse;
+import com.hscoderadar.domain.exchange.dto.response.CustomsExchangeRateResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+
+/**
+ * 관세청 응답(녹화본)에 대해 StAX 디코더 결과가 기존 XmlMapper 바인딩과 같은지 확인
+ */
+class CustomsXmlDecoderTest {
+
+  private final CustomsXmlDecoder decoder = new CustomsXmlDecoder(2 * 1024 * 1024);
+  private final XmlMapper xmlMapper = createXmlMapper();
+
+  // WebClientConfig의 XML 디코더와 같은 설정
+  private static XmlMapper createXmlMapper() {
+    XmlMapper xmlMapper = new XmlMapper();
+    xmlMapper.registerModule(new JakartaXmlBindAnnotationModule());
+    xmlMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    return xmlMapper;
+  }
+
+  @Test
+  void exchangeRatesMatchXmlMapperBinding() throws IOException {
+    byte[] payload = read("customs/exchange-rates.xml");
+
+    CustomsExchangeRateResponse decoded = decode(payload, CustomsExchangeRateResponse.class);
+
+    assertThat(decoded).isEqualTo(xmlMapper.readValue(payload, CustomsExchangeRateResponse.class));
+    assertThat(decoded.itemList()).hasSize(4);
+  }
+
+  @Test
+  void emptyExchangeRatesMatchXmlMapperBinding() throws IOException {
+    byte[] payload = "<trifFxrtInfoQryRtnVo><tCnt>0</tCnt><ntceInfo/></trifFxrtInfoQryRtnVo>"
+        .getBytes(StandardCharsets.UTF_8);
+
+    CustomsExchangeRateResponse decoded = decode(payload, CustomsExchangeRateResponse.class);
+
+    assertThat(decoded).isEqualTo(xmlMapper.readValue(payload, CustomsExchangeRateResponse.class));
+    assertThat(decoded.itemList()).isNull();
+  }
+
+  @Test
+  void cargoClearanceMatchesXmlMapperBinding() throws IOException {
+    byte[] payload = read("customs/cargo-clearance.xml");
+
+    CargoClearanceProgressResponse decoded = decode(payload, CargoClearanceProgressResponse.class);
+
+    assertThat(decoded).isEqualTo(xmlMapper.readValue(payload, CargoClearanceProgressResponse.class));
+    assertThat(decoded.getDetailList()).hasSize(3);
+  }
+
+  private <T> T decode(byte[] payload, Class<T> type) {
+    DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(payload);
+    Object decoded = decoder
+        .decodeToMono(Flux.just(buffer), ResolvableType.forClass(type), MediaType.APPLICATION_XML, null)
+        .block();
+    return type.cast(decoded);
+  }
+
+  private static byte[] read(String path) throws IOException {
+    try (InputStream in = CustomsXmlDecoderTest.class.getClassLoader().getResourceAsStream(path)) {
+      assertThat(in).as(path).isNotNull();
+      return in.readAllBytes();
+    }
+  }
+}
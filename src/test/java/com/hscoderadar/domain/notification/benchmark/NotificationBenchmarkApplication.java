@@ -0,0 +1,22 @@
+package com.hscoderadar.domain.notification.benchmark;
+
+import com.hscoderadar.HsCodeRadarApplication;
+import org.springframework.boot.SpringApplication;
+
+/**
+ * 알림 발송 벤치마크 실행 진입점 (테스트 클래스패스 전용)
+ *
+ * <p>
+ * 애플리케이션을 notification-benchmark 프로파일로 띄워 {@link NotificationBenchmarkRunner}를 실행함.
+ * 실행 예: {@code ./mvnw spring-boot:test-run
+ * -Dspring-boot.run.main-class=com.hscoderadar.domain.notification.benchmark.NotificationBenchmarkApplication
+ * -Dspring-boot.run.profiles=inmemory_db}
+ */
+public class NotificationBenchmarkApplication {
+
+  public static void main(String[] args) {
+    SpringApplication.from(HsCodeRadarApplication::main)
+        .withAdditionalProfiles("notification-benchmark")
+        .run(args);
+  }
+}
@@ -0,0 +1,150 @@
+package com.hscoderadar.domain.notification.benchmark;
+
+import com.hscoderadar.domain.notification.dto.request.EmailMessage;
+import com.hscoderadar.domain.notification.dto.response.EmailSendResult;
+import com.hscoderadar.domain.notification.service.EmailService;
+import com.hscoderadar.domain.sms.dto.request.SmsBatchMessage;
+import com.hscoderadar.domain.sms.dto.response.SmsSendResult;
+import com.hscoderadar.domain.sms.service.SmsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 발송 벤치마크용 제공사 대체 설정 (notification-benchmark 프로파일 전용)
+ *
+ * <p>
+ * CoolSMS, SMTP 대신 설정한 지연 시간만큼 대기 후 모두 성공으로 응답하는 SmsService, EmailService를 우선 등록하고,
+ * 메시지별 접수 시각을 {@link DeliveryRecorder}에 기록함. 실제 외부 발송은 일어나지 않음.
+ * <ul>
+ * <li>app.benchmark.notification.sms-latency-ms: SMS 다건 발송 요청 1회당 지연 (기본 200)</li>
+ * <li>app.benchmark.notification.email-latency-ms: SMTP 일괄 발송 1회(연결)당 지연 (기본 100)</li>
+ * <li>app.benchmark.notification.email-per-message-latency-ms: 메일 1건당 추가 지연 (기본 5)</li>
+ * </ul>
+ */
+@Configuration
+@Profile("notification-benchmark")
+public class NotificationBenchmarkConfig {
+
+  @Bean
+  public DeliveryRecorder benchmarkDeliveryRecorder() {
+    return new DeliveryRecorder();
+  }
+
+  @Bean
+  @Primary
+  public SmsService simulatedSmsService(
+      DeliveryRecorder recorder,
+      @Value("${app.benchmark.notification.sms-latency-ms:200}") long latencyMs) {
+    return new SimulatedSmsService(recorder, latencyMs);
+  }
+
+  @Bean
+  @Primary
+  public EmailService simulatedEmailService(
+      DeliveryRecorder recorder,
+      @Value("${app.benchmark.notification.email-latency-ms:100}") long latencyMs,
+      @Value("${app.benchmark.notification.email-per-message-latency-ms:5}") long perMessageLatencyMs) {
+    return new SimulatedEmailService(recorder, latencyMs, perMessageLatencyMs);
+  }
+
+  /**
+   * 제공사 접수 기록 (메시지별 접수 시각, 제공사 호출 횟수)
+   */
+  public static class DeliveryRecorder {
+
+    private final ConcurrentLinkedQueue<Long> acceptedAtNanos = new ConcurrentLinkedQueue<>();
+    private final AtomicLong providerCalls = new AtomicLong();
+
+    void record(int messages) {
+      long now = System.nanoTime();
+      providerCalls.incrementAndGet();
+      for (int i = 0; i < messages; i++) {
+        acceptedAtNanos.add(now);
+      }
+    }
+
+    /** 기록 초기화 */
+    public void reset() {
+      acceptedAtNanos.clear();
+      providerCalls.set(0);
+    }
+
+    /** 메시지별 접수 시각 (System.nanoTime 기준) */
+    public List<Long> acceptedAtNanos() {
+      return new ArrayList<>(acceptedAtNanos);
+    }
+
+    /** 제공사 호출 횟수 */
+    public long providerCalls() {
+      return providerCalls.get();
+    }
+  }
+
+  private static void simulateLatency(long millis) {
+    if (millis <= 0) {
+      return;
+    }
+    try {
+      TimeUnit.MILLISECONDS.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private record SimulatedSmsService(DeliveryRecorder recorder, long latencyMs) implements SmsService {
+
+    @Override
+    public String sendVerificationCode(String to) {
+      simulateLatency(latencyMs);
+      recorder.record(1);
+      return "000000";
+    }
+
+    @Override
+    public boolean verifyCode(String phoneNumber, String code) {
+      return false;
+    }
+
+    @Override
+    public void sendMessage(String to, String content) {
+      simulateLatency(latencyMs);
+      recorder.record(1);
+    }
+
+    @Override
+    public List<SmsSendResult> sendBatch(List<SmsBatchMessage> messages) {
+      simulateLatency(latencyMs);
+      recorder.record(messages.size());
+      return messages.stream()
+          .map(message -> SmsSendResult.sent(message.to(), "BENCH-" + UUID.randomUUID()))
+          .toList();
+    }
+  }
+
+  private record SimulatedEmailService(DeliveryRecorder recorder, long latencyMs, long perMessageLatencyMs)
+      implements EmailService {
+
+    @Override
+    public void sendEmail(String to, String subject, String content) {
+      simulateLatency(latencyMs + perMessageLatencyMs);
+      recorder.record(1);
+    }
+
+    @Override
+    public List<EmailSendResult> sendBatch(List<EmailMessage> messages) {
+      simulateLatency(latencyMs + perMessageLatencyMs * messages.size());
+      recorder.record(messages.size());
+      return messages.stream().map(message -> EmailSendResult.sent(message.to())).toList();
+    }
+  }
+}
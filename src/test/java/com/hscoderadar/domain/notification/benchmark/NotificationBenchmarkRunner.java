@@ -0,0 +1,243 @@
+package com.hscoderadar.domain.notification.benchmark;
+
+import com.hscoderadar.domain.notification.benchmark.NotificationBenchmarkConfig.DeliveryRecorder;
+import com.hscoderadar.domain.notification.service.NotificationSendingService;
+import com.hscoderadar.domain.notification.service.NotificationSlotRouter;
+import com.hscoderadar.domain.user.entity.User;
+import com.hscoderadar.domain.user.entity.UserSettings;
+import com.hscoderadar.domain.user.repository.UserRepository;
+import com.hscoderadar.domain.user.repository.UserSettingsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 발송 처리량 벤치마크 (notification-benchmark 프로파일 전용)
+ *
+ * <p>
+ * 벤치마크 사용자와 알림 작업 N건을 발송 대기 목록(daily_notification:ready:)에 직접 넣고
+ * {@link NotificationSendingService#sendAllPendingNotifications()}로 모두 처리하는 데 걸린 시간을 측정함.
+ * 제공사는 {@link NotificationBenchmarkConfig}의 지연 시뮬레이터로 대체되므로 발송 파이프라인(Redis 조회, 요약, 병렬 처리, 로그 저장)
+ * 자체의 처리량을 비교할 수 있음. 측정 후 생성한 사용자, 설정, 발송 로그는 삭제함.
+ * <ul>
+ * <li>처리량: 초당 처리한 알림 작업 수</li>
+ * <li>발송 지연: 시작 시점부터 메시지가 제공사에 접수될 때까지의 시간 (p50, p99, max)</li>
+ * <li>DB 쓰기: 추가된 notification_logs 행 수</li>
+ * </ul>
+ * 테스트 소스에만 있으므로 배포 산출물에는 포함되지 않으며 {@link NotificationBenchmarkApplication}으로 실행함
+ * (Redis는 벤치마크 전용 로컬 인스턴스를 사용해야 함, application-notification-benchmark.properties 참고)
+ */
+@Slf4j
+@Component
+@Profile("notification-benchmark")
+public class NotificationBenchmarkRunner implements ApplicationRunner {
+
+  private static final String READY_QUEUE_KEY = NotificationSlotRouter.READY_KEY;
+  private static final String DETAIL_KEY_PREFIX = "daily_notification:detail:";
+  private static final String BENCHMARK_EMAIL_DOMAIN = "@benchmark.local";
+
+  private final NotificationSendingService notificationSendingService;
+  private final RedisTemplate<String, Object> queueRedisTemplate;
+  private final UserRepository userRepository;
+  private final UserSettingsRepository userSettingsRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final DeliveryRecorder deliveryRecorder;
+  private final ApplicationContext applicationContext;
+  private final int tasks;
+  private final int users;
+  private final int smsPercent;
+  private final boolean exitOnComplete;
+
+  public NotificationBenchmarkRunner(
+      NotificationSendingService notificationSendingService,
+      @Qualifier("queueRedisTemplate") RedisTemplate<String, Object> queueRedisTemplate,
+      UserRepository userRepository,
+      UserSettingsRepository userSettingsRepository,
+      JdbcTemplate jdbcTemplate,
+      DeliveryRecorder deliveryRecorder,
+      ApplicationContext applicationContext,
+      @Value("${app.benchmark.notification.tasks:10000}") int tasks,
+      @Value("${app.benchmark.notification.users:1000}") int users,
+      @Value("${app.benchmark.notification.sms-percent:30}") int smsPercent,
+      @Value("${app.benchmark.notification.exit-on-complete:true}") boolean exitOnComplete) {
+    this.notificationSendingService = notificationSendingService;
+    this.queueRedisTemplate = queueRedisTemplate;
+    this.userRepository = userRepository;
+    this.userSettingsRepository = userSettingsRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.deliveryRecorder = deliveryRecorder;
+    this.applicationContext = applicationContext;
+    this.tasks = tasks;
+    this.users = users;
+    this.smsPercent = smsPercent;
+    this.exitOnComplete = exitOnComplete;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    Long existing = queueRedisTemplate.opsForList().size(READY_QUEUE_KEY);
+    if (existing != null && existing > 0) {
+      log.error("발송 대기 목록에 이미 {}건이 있어 벤치마크를 중단합니다. 벤치마크 전용 Redis를 사용하세요.", existing);
+      exit(1);
+      return;
+    }
+
+    String runId = UUID.randomUUID().toString().substring(0, 8);
+    List<User> benchmarkUsers = seedUsers(runId);
+    try {
+      seedTasks(benchmarkUsers);
+      long logsBefore = countNotificationLogs();
+      deliveryRecorder.reset();
+
+      long startedAt = System.nanoTime();
+      notificationSendingService.sendAllPendingNotifications();
+      long elapsedNanos = System.nanoTime() - startedAt;
+
+      report(startedAt, elapsedNanos, countNotificationLogs() - logsBefore);
+    } finally {
+      cleanUp(benchmarkUsers);
+    }
+    exit(0);
+  }
+
+  /**
+   * 벤치마크 사용자 생성 (이메일 알림 활성화, SMS 알림 활성화 + 휴대폰 인증 완료)
+   */
+  private List<User> seedUsers(String runId) {
+    List<User> created = new ArrayList<>(users);
+    for (int i = 0; i < users; i++) {
+      User user = User.builder()
+          .email("bench-" + runId + "-" + i + BENCHMARK_EMAIL_DOMAIN)
+          .name("benchmark-" + i)
+          .build();
+      user.completePhoneVerification("010%08d".formatted(i));
+      created.add(user);
+    }
+    List<User> saved = userRepository.saveAll(created);
+
+    List<UserSettings> settings = new ArrayList<>(saved.size());
+    for (User user : saved) {
+      UserSettings userSettings = new UserSettings(user);
+      userSettings.updateNotificationSettings(true, true, "DAILY", LocalTime.of(9, 0));
+      settings.add(userSettings);
+    }
+    userSettingsRepository.saveAll(settings);
+
+    log.info("벤치마크 사용자 {}명 생성", saved.size());
+    return saved;
+  }
+
+  /**
+   * 알림 작업을 상세 정보(Hash)와 발송 대기 목록에 파이프라인으로 적재 (파이썬 서버 적재 형식과 동일)
+   */
+  @SuppressWarnings("unchecked")
+  private void seedTasks(List<User> benchmarkUsers) {
+    int chunkSize = 1000;
+    for (int start = 0; start < tasks; start += chunkSize) {
+      int from = start;
+      int to = Math.min(start + chunkSize, tasks);
+      queueRedisTemplate.executePipelined(new SessionCallback<Object>() {
+        @Override
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+          for (int i = from; i < to; i++) {
+            String taskId = UUID.randomUUID().toString();
+            User user = benchmarkUsers.get(i % benchmarkUsers.size());
+            ops.opsForHash().putAll(DETAIL_KEY_PREFIX + taskId, Map.of(
+                "user_id", String.valueOf(user.getId()),
+                "type", i % 100 < smsPercent ? "SMS" : "EMAIL",
+                "title", "벤치마크 알림 " + i,
+                "message", "HS코드 8471.30 관세율 변경 안내 (벤치마크 " + i + ")"));
+            ops.opsForList().leftPush(READY_QUEUE_KEY, taskId);
+          }
+          return null;
+        }
+      });
+    }
+    log.info("벤치마크 알림 작업 {}건 적재", tasks);
+  }
+
+  private void report(long startedAt, long elapsedNanos, long logWrites) {
+    List<Long> latencies = new ArrayList<>();
+    for (Long acceptedAt : deliveryRecorder.acceptedAtNanos()) {
+      latencies.add(acceptedAt - startedAt);
+    }
+    Collections.sort(latencies);
+
+    double elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+    log.info("""
+        ===== 알림 발송 벤치마크 결과 =====
+        작업 {}건 / 사용자 {}명 / SMS 비율 {}%
+        소요 시간: {} s
+        처리량: {} tasks/s
+        제공사 접수 메시지: {}건 (제공사 호출 {}회)
+        발송 지연: p50 {} ms, p99 {} ms, max {} ms
+        DB 쓰기(notification_logs): {}건
+        ==================================""",
+        tasks, users, smsPercent,
+        "%.2f".formatted(elapsedSeconds),
+        "%.1f".formatted(tasks / elapsedSeconds),
+        latencies.size(), deliveryRecorder.providerCalls(),
+        toMillis(percentile(latencies, 0.50)),
+        toMillis(percentile(latencies, 0.99)),
+        toMillis(latencies.isEmpty() ? 0 : latencies.get(latencies.size() - 1)),
+        logWrites);
+  }
+
+  private static long percentile(List<Long> sorted, double percentile) {
+    if (sorted.isEmpty()) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+    return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+  }
+
+  private static long toMillis(long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos);
+  }
+
+  private long countNotificationLogs() {
+    Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_logs", Long.class);
+    return count != null ? count : 0;
+  }
+
+  /**
+   * 벤치마크 사용자, 설정, 발송 로그, 남은 큐 데이터 삭제
+   */
+  private void cleanUp(List<User> benchmarkUsers) {
+    try {
+      List<Object[]> userIds = benchmarkUsers.stream().map(user -> new Object[] { user.getId() }).toList();
+      jdbcTemplate.batchUpdate("DELETE FROM notification_logs WHERE user_id = ?", userIds);
+      jdbcTemplate.batchUpdate("DELETE FROM user_settings WHERE user_id = ?", userIds);
+      jdbcTemplate.batchUpdate("DELETE FROM users WHERE id = ?", userIds);
+      queueRedisTemplate.delete(READY_QUEUE_KEY);
+      log.info("벤치마크 데이터 정리 완료");
+    } catch (Exception e) {
+      log.warn("벤치마크 데이터 정리 실패: {}", e.getMessage());
+    }
+  }
+
+  private void exit(int code) {
+    if (exitOnComplete) {
+      System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+  }
+}